@@ -0,0 +1,82 @@
+package angstromio.validation.bulk
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import java.io.Writer
+import java.util.*
+
+/**
+ * The result of a bulk validation run, keyed by 1-based line number. Only lines which failed to parse,
+ * which produced constraint violations or for which the validation failed are recorded.
+ *
+ * @param linesRead the total number of lines read, including blank lines.
+ * @param results   failing lines sorted by line number.
+ */
+data class BulkValidationReport(
+    val linesRead: Long,
+    val results: SortedMap<Long, LineResult>
+) {
+
+    /** True if every line parsed and validated without any violations. */
+    val isValid: Boolean
+        get() = results.isEmpty()
+
+    /**
+     * Write the report as newline-delimited JSON, one object per failing line, e.g.,
+     *
+     *   {"line":12,"violations":[{"path":"id","message":"must not be empty","invalidValue":""}]}
+     *   {"line":40,"error":"Unexpected end-of-input"}
+     *   {"line":41,"validationError":"No validator could be found for constraint ..."}
+     */
+    fun writeTo(writer: Writer, objectMapper: ObjectMapper) {
+        val iterator = results.values.iterator()
+        while (iterator.hasNext()) {
+            writer.write(objectMapper.writeValueAsString(iterator.next().toJsonMap()))
+            writer.write("\n")
+        }
+        writer.flush()
+    }
+
+    sealed interface LineResult {
+        val line: Long
+
+        fun toJsonMap(): Map<String, Any?>
+
+        /** The line could not be read as JSON or could not be bound to the configured data class. */
+        data class ParseFailure(
+            override val line: Long,
+            val message: String?
+        ) : LineResult {
+            override fun toJsonMap(): Map<String, Any?> = mapOf("line" to line, "error" to message)
+        }
+
+        /**
+         * The line was bound to the configured data class but its validation threw a
+         * [jakarta.validation.ValidationException], e.g., a constraint without a validator for the type of a value.
+         */
+        data class ValidationFailure(
+            override val line: Long,
+            val message: String?
+        ) : LineResult {
+            override fun toJsonMap(): Map<String, Any?> = mapOf("line" to line, "validationError" to message)
+        }
+
+        /** The line was bound to the configured data class but failed validation. */
+        data class Invalid(
+            override val line: Long,
+            val violations: List<LineViolation>
+        ) : LineResult {
+            override fun toJsonMap(): Map<String, Any?> =
+                mapOf("line" to line, "violations" to violations.map { it.toJsonMap() })
+        }
+    }
+
+    /** A serializable snapshot of a [jakarta.validation.ConstraintViolation]. */
+    data class LineViolation(
+        val path: String,
+        val message: String,
+        val invalidValue: String?
+    ) {
+        fun toJsonMap(): Map<String, Any?> =
+            mapOf("path" to path, "message" to message, "invalidValue" to invalidValue)
+    }
+}
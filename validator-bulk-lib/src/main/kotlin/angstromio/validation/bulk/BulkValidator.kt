@@ -0,0 +1,268 @@
+package angstromio.validation.bulk
+
+import angstromio.validation.DataClassValidator
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.DeserializationFeature
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.ObjectReader
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import jakarta.validation.ConstraintViolation
+import jakarta.validation.ValidationException
+import java.io.IOException
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.*
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Validates newline-delimited JSON (NDJSON) files where every line represents an instance of the
+ * configured data class.
+ *
+ * Files are split into memory-mapped regions on newline boundaries which are parsed and validated in parallel
+ * on a worker pool. Every line is bound with a streaming Jackson parser and validated with a [DataClassValidator].
+ * Any line which fails to parse, has trailing content after its JSON value, fails to validate or for which the
+ * validation throws a [ValidationException] is recorded in the returned [BulkValidationReport] by its 1-based
+ * line number.
+ *
+ * ==Usage==
+ *
+ *   val bulkValidator: BulkValidator<Order> =
+ *     BulkValidator.builder(Order::class.java)
+ *       .withParallelism(8)
+ *       .bulkValidator()
+ *
+ *   val report = bulkValidator.validate(Paths.get("orders.ndjson"))
+ *
+ * @note a [DataClassValidator] created by the [Builder] is closed by [close], a user-supplied one is not.
+ */
+class BulkValidator<T : Any>(
+    private val clazz: Class<T>,
+    private val validator: DataClassValidator,
+    private val objectMapper: ObjectMapper,
+    private val parallelism: Int,
+    private val regionSize: Long,
+    private val ownsValidator: Boolean = false
+) : AutoCloseable {
+
+    companion object {
+        /** The default maximum size of a memory-mapped region, in bytes. */
+        const val DEFAULT_REGION_SIZE: Long = 64L * 1024L * 1024L
+
+        private const val INITIAL_LINE_BUFFER_SIZE: Int = 4 * 1024
+
+        fun <T : Any> builder(clazz: Class<T>): Builder<T> = Builder(clazz)
+    }
+
+    class Builder<T : Any>(
+        private val clazz: Class<T>,
+        private val validator: DataClassValidator? = null,
+        private val objectMapper: ObjectMapper? = null,
+        private val parallelism: Int = Runtime.getRuntime().availableProcessors(),
+        private val regionSize: Long = DEFAULT_REGION_SIZE
+    ) {
+
+        fun withValidator(validator: DataClassValidator): Builder<T> =
+            Builder(
+                clazz = this.clazz,
+                validator = validator,
+                objectMapper = this.objectMapper,
+                parallelism = this.parallelism,
+                regionSize = this.regionSize
+            )
+
+        fun withObjectMapper(objectMapper: ObjectMapper): Builder<T> =
+            Builder(
+                clazz = this.clazz,
+                validator = this.validator,
+                objectMapper = objectMapper,
+                parallelism = this.parallelism,
+                regionSize = this.regionSize
+            )
+
+        fun withParallelism(parallelism: Int): Builder<T> =
+            Builder(
+                clazz = this.clazz,
+                validator = this.validator,
+                objectMapper = this.objectMapper,
+                parallelism = parallelism,
+                regionSize = this.regionSize
+            )
+
+        fun withRegionSize(regionSize: Long): Builder<T> =
+            Builder(
+                clazz = this.clazz,
+                validator = this.validator,
+                objectMapper = this.objectMapper,
+                parallelism = this.parallelism,
+                regionSize = regionSize
+            )
+
+        fun bulkValidator(): BulkValidator<T> {
+            if (parallelism < 1) throw IllegalArgumentException("parallelism must be at least 1.")
+            if (regionSize < 1) throw IllegalArgumentException("regionSize must be at least 1.")
+            return BulkValidator(
+                clazz = this.clazz,
+                validator = this.validator ?: DataClassValidator(),
+                objectMapper = this.objectMapper ?: jacksonObjectMapper(),
+                parallelism = this.parallelism,
+                regionSize = this.regionSize,
+                ownsValidator = this.validator == null
+            )
+        }
+    }
+
+    /** A failing line, recorded before its absolute line number is known. */
+    private class LineFailure(
+        val message: String?,
+        val violations: List<BulkValidationReport.LineViolation>?,
+        val isValidationFailure: Boolean = false
+    ) {
+        fun toLineResult(line: Long): BulkValidationReport.LineResult =
+            when {
+                violations != null -> BulkValidationReport.LineResult.Invalid(line, violations)
+                isValidationFailure -> BulkValidationReport.LineResult.ValidationFailure(line, message)
+                else -> BulkValidationReport.LineResult.ParseFailure(line, message)
+            }
+    }
+
+    /** Line failures of a single region, indexed relative to the start of the region. */
+    private class RegionResult(
+        val lineCount: Long,
+        val lineIndexes: LongArray,
+        val failures: Array<LineFailure>
+    )
+
+    // a line holds exactly one value, e.g., `{"id":1} junk` is a parse failure
+    private val objectReader: ObjectReader =
+        objectMapper.readerFor(clazz).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+
+    /**
+     * Parse and validate every line of the given file.
+     *
+     * @param path the NDJSON file to validate.
+     * @return a [BulkValidationReport] of all failing lines.
+     */
+    @Throws(IOException::class)
+    fun validate(path: Path): BulkValidationReport {
+        FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+            val regions = NdjsonRegions.split(channel, regionSize)
+            if (regions.isEmpty()) return BulkValidationReport(0L, Collections.emptySortedMap())
+
+            val executor = newExecutor(minOf(parallelism, regions.size))
+            try {
+                val futures: List<Future<RegionResult>> = regions.map { region ->
+                    executor.submit(Callable { validateRegion(channel, region) })
+                }
+
+                // regions are only line-addressable once the line counts of all preceding regions are known
+                val results = TreeMap<Long, BulkValidationReport.LineResult>()
+                var lineOffset = 0L
+                for (future in futures) {
+                    val regionResult = await(future)
+                    var index = 0
+                    while (index < regionResult.lineIndexes.size) {
+                        val line = lineOffset + regionResult.lineIndexes[index] + 1
+                        results[line] = regionResult.failures[index].toLineResult(line)
+                        index += 1
+                    }
+                    lineOffset += regionResult.lineCount
+                }
+                return BulkValidationReport(lineOffset, results)
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+    }
+
+    /** Close the underlying [DataClassValidator] if it was created by this [BulkValidator]. */
+    override fun close() {
+        if (ownsValidator) validator.close()
+    }
+
+    /* Private */
+
+    private fun validateRegion(channel: FileChannel, region: NdjsonRegions.Region): RegionResult {
+        val buffer = NdjsonRegions.map(channel, region)
+        val lineIndexes = mutableListOf<Long>()
+        val failures = mutableListOf<LineFailure>()
+        var lineBuffer = ByteArray(INITIAL_LINE_BUFFER_SIZE)
+
+        val lineCount = NdjsonRegions.forEachLine(buffer) { lineIndex, offset, length ->
+            if (!isBlank(buffer, offset, length)) {
+                if (lineBuffer.size < length) lineBuffer = ByteArray(maxOf(length, lineBuffer.size * 2))
+                buffer.get(offset, lineBuffer, 0, length)
+                val failure = validateLine(lineBuffer, length)
+                if (failure != null) {
+                    lineIndexes.add(lineIndex)
+                    failures.add(failure)
+                }
+            }
+        }
+        return RegionResult(lineCount, lineIndexes.toLongArray(), failures.toTypedArray())
+    }
+
+    /** @return null if the line is valid, otherwise the [LineFailure] of the line. */
+    private fun validateLine(bytes: ByteArray, length: Int): LineFailure? {
+        val value: T? = try {
+            // reads and closes its own parser, which checks for trailing tokens
+            objectReader.readValue<T>(bytes, 0, length)
+        } catch (e: JsonProcessingException) {
+            return LineFailure(message = e.originalMessage, violations = null)
+        }
+
+        return if (value == null) {
+            LineFailure(message = "null is not a valid ${clazz.name}", violations = null)
+        } else {
+            val violations = try {
+                validator.validate(value)
+            } catch (e: ValidationException) {
+                // e.g., no validator for the type of a value or a failing @PostConstructValidation method
+                return LineFailure(message = e.message, violations = null, isValidationFailure = true)
+            }
+            if (violations.isEmpty()) null
+            else LineFailure(message = null, violations = violations.map { toLineViolation(it) }.sortedBy { it.path })
+        }
+    }
+
+    private fun toLineViolation(violation: ConstraintViolation<T>): BulkValidationReport.LineViolation =
+        BulkValidationReport.LineViolation(
+            path = violation.propertyPath.toString(),
+            message = violation.message,
+            invalidValue = violation.invalidValue?.toString()
+        )
+
+    private fun isBlank(buffer: ByteBuffer, offset: Int, length: Int): Boolean {
+        var index = offset
+        val end = offset + length
+        while (index < end) {
+            if (!Character.isWhitespace(buffer.get(index).toInt())) return false
+            index += 1
+        }
+        return true
+    }
+
+    private fun await(future: Future<RegionResult>): RegionResult =
+        try {
+            future.get()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+
+    private fun newExecutor(threads: Int): ExecutorService {
+        val counter = AtomicInteger(0)
+        val threadFactory = ThreadFactory { runnable ->
+            val thread = Thread(runnable, "angstromio-bulk-validator-${counter.incrementAndGet()}")
+            thread.isDaemon = true
+            thread
+        }
+        return Executors.newFixedThreadPool(threads, threadFactory)
+    }
+}
@@ -0,0 +1,133 @@
+package angstromio.validation.bulk
+
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import java.io.BufferedWriter
+import java.io.OutputStreamWriter
+import java.io.Writer
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import kotlin.system.exitProcess
+
+/**
+ * Command line entry point for bulk NDJSON validation.
+ *
+ * ==Usage==
+ *
+ *   angstromio-validator-bulk --class com.example.Order [--parallelism 8] [--region-size 67108864] \
+ *     [--output report.ndjson] orders-1.ndjson [orders-2.ndjson ...]
+ *
+ * The violation report of every input file is written as newline-delimited JSON to the given output file
+ * (or standard out), preceded by a `{"file":...,"linesRead":...,"invalidLines":...}` summary line per file.
+ *
+ * Exits with status 0 when all lines are valid, 1 when any line is invalid, 2 on a usage error.
+ */
+object BulkValidatorMain {
+
+    private const val EXIT_VALID = 0
+    private const val EXIT_INVALID = 1
+    private const val EXIT_USAGE = 2
+
+    private const val USAGE =
+        "Usage: angstromio-validator-bulk --class <data class name> [--parallelism <threads>] " +
+                "[--region-size <bytes>] [--output <file>] <input file>..."
+
+    internal data class Arguments(
+        val clazzName: String,
+        val parallelism: Int,
+        val regionSize: Long,
+        val output: Path?,
+        val inputs: List<Path>
+    )
+
+    @JvmStatic
+    fun main(args: Array<String>) {
+        val arguments = try {
+            parse(args)
+        } catch (e: IllegalArgumentException) {
+            System.err.println(e.message)
+            System.err.println(USAGE)
+            exitProcess(EXIT_USAGE)
+        }
+        exitProcess(run(arguments))
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    internal fun run(arguments: Arguments): Int {
+        val clazz = try {
+            Class.forName(arguments.clazzName) as Class<Any>
+        } catch (e: ClassNotFoundException) {
+            System.err.println("Class ${arguments.clazzName} not found.")
+            return EXIT_USAGE
+        }
+
+        val objectMapper = jacksonObjectMapper()
+        val bulkValidator = BulkValidator.builder(clazz)
+            .withObjectMapper(objectMapper)
+            .withParallelism(arguments.parallelism)
+            .withRegionSize(arguments.regionSize)
+            .bulkValidator()
+
+        var valid = true
+        bulkValidator.use { validator ->
+            newWriter(arguments.output).use { writer ->
+                for (input in arguments.inputs) {
+                    val report = validator.validate(input)
+                    writer.write(
+                        objectMapper.writeValueAsString(
+                            mapOf(
+                                "file" to input.toString(),
+                                "linesRead" to report.linesRead,
+                                "invalidLines" to report.results.size
+                            )
+                        )
+                    )
+                    writer.write("\n")
+                    report.writeTo(writer, objectMapper)
+                    if (!report.isValid) valid = false
+                }
+            }
+        }
+        return if (valid) EXIT_VALID else EXIT_INVALID
+    }
+
+    internal fun parse(args: Array<String>): Arguments {
+        var clazzName: String? = null
+        var parallelism = Runtime.getRuntime().availableProcessors()
+        var regionSize = BulkValidator.DEFAULT_REGION_SIZE
+        var output: Path? = null
+        val inputs = mutableListOf<Path>()
+
+        var index = 0
+        while (index < args.size) {
+            when (val arg = args[index]) {
+                "--class" -> clazzName = valueOf(args, ++index, arg)
+                "--parallelism" -> parallelism = valueOf(args, ++index, arg).toIntOrNull()
+                    ?: throw IllegalArgumentException("$arg must be an integer.")
+                "--region-size" -> regionSize = valueOf(args, ++index, arg).toLongOrNull()
+                    ?: throw IllegalArgumentException("$arg must be an integer.")
+                "--output" -> output = Paths.get(valueOf(args, ++index, arg))
+                else ->
+                    if (arg.startsWith("--")) throw IllegalArgumentException("Unknown option $arg.")
+                    else inputs.add(Paths.get(arg))
+            }
+            index += 1
+        }
+
+        if (clazzName.isNullOrEmpty()) throw IllegalArgumentException("--class is required.")
+        if (inputs.isEmpty()) throw IllegalArgumentException("At least one input file is required.")
+        return Arguments(clazzName, parallelism, regionSize, output, inputs.toList())
+    }
+
+    private fun valueOf(args: Array<String>, index: Int, option: String): String =
+        if (index < args.size) args[index] else throw IllegalArgumentException("$option requires a value.")
+
+    private fun newWriter(output: Path?): Writer =
+        if (output == null) {
+            // do not close standard out
+            object : BufferedWriter(OutputStreamWriter(System.out, StandardCharsets.UTF_8)) {
+                override fun close() = flush()
+            }
+        } else Files.newBufferedWriter(output, StandardCharsets.UTF_8)
+}
@@ -0,0 +1,95 @@
+package angstromio.validation.bulk
+
+import java.nio.ByteBuffer
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+
+/** Splits a newline-delimited file into independently parseable, memory-mapped regions. */
+internal object NdjsonRegions {
+
+    private const val NEWLINE: Byte = '\n'.code.toByte()
+    private const val CARRIAGE_RETURN: Byte = '\r'.code.toByte()
+    private const val SCAN_BUFFER_SIZE: Int = 8 * 1024
+
+    /** A contiguous byte range of the file which starts at a line start and ends after a newline (or at EOF). */
+    data class Region(val index: Int, val start: Long, val length: Long)
+
+    /**
+     * Compute the regions of the given channel. Every region is at most roughly `regionSize` bytes, but is
+     * always extended to the next newline so that no line straddles two regions.
+     *
+     * @note a single line longer than [Int.MAX_VALUE] bytes cannot be mapped and results in an [IllegalArgumentException].
+     */
+    fun split(channel: FileChannel, regionSize: Long): List<Region> {
+        require(regionSize > 0) { "regionSize must be positive." }
+        val size = channel.size()
+        val results = mutableListOf<Region>()
+        val scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE)
+        var start = 0L
+        while (start < size) {
+            val nominalEnd = start + regionSize
+            val end = if (nominalEnd >= size) size else nextLineStart(channel, nominalEnd, size, scanBuffer)
+            val length = end - start
+            if (length > Int.MAX_VALUE) {
+                throw IllegalArgumentException("Region starting at byte $start exceeds the maximum mappable size.")
+            }
+            results.add(Region(results.size, start, length))
+            start = end
+        }
+        return results.toList()
+    }
+
+    /** Maps the given region of the channel read-only. */
+    fun map(channel: FileChannel, region: Region): MappedByteBuffer =
+        channel.map(FileChannel.MapMode.READ_ONLY, region.start, region.length)
+
+    /**
+     * Invoke the given function for every line of the buffer with the (0-based) line index relative to the start
+     * of the buffer and the offset and length of the line content, excluding any trailing `\r\n` or `\n`.
+     *
+     * @return the number of lines in the buffer.
+     */
+    fun forEachLine(
+        buffer: ByteBuffer,
+        fn: (lineIndex: Long, offset: Int, length: Int) -> Unit
+    ): Long {
+        val limit = buffer.limit()
+        var lineIndex = 0L
+        var lineStart = 0
+        var position = 0
+        while (position < limit) {
+            if (buffer.get(position) == NEWLINE) {
+                fn(lineIndex, lineStart, contentLength(buffer, lineStart, position))
+                lineIndex += 1
+                lineStart = position + 1
+            }
+            position += 1
+        }
+        // last line without a trailing newline
+        if (lineStart < limit) {
+            fn(lineIndex, lineStart, contentLength(buffer, lineStart, limit))
+            lineIndex += 1
+        }
+        return lineIndex
+    }
+
+    private fun contentLength(buffer: ByteBuffer, lineStart: Int, lineEnd: Int): Int =
+        if (lineEnd > lineStart && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) lineEnd - 1 - lineStart
+        else lineEnd - lineStart
+
+    private fun nextLineStart(channel: FileChannel, from: Long, size: Long, scanBuffer: ByteBuffer): Long {
+        var position = from - 1 // the region may already end exactly on a newline
+        while (position < size) {
+            scanBuffer.clear()
+            val read = channel.read(scanBuffer, position)
+            if (read <= 0) return size
+            var index = 0
+            while (index < read) {
+                if (scanBuffer.get(index) == NEWLINE) return position + index + 1
+                index += 1
+            }
+            position += read
+        }
+        return size
+    }
+}
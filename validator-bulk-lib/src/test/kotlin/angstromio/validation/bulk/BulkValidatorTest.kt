@@ -0,0 +1,167 @@
+package angstromio.validation.bulk
+
+import angstromio.validation.DataClassValidator
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.be
+import io.kotest.matchers.equals.shouldBeEqual
+import io.kotest.matchers.should
+import io.kotest.matchers.types.beInstanceOf
+import jakarta.validation.constraints.Min
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.Size
+import java.io.StringWriter
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+class BulkValidatorTest : FunSpec() {
+
+    data class Order(@NotEmpty val id: String, @Min(1) val quantity: Int)
+
+    // @Size has no validator for a number
+    data class Labelled(@Size(min = 1) val label: Any)
+
+    private val validator: DataClassValidator = DataClassValidator()
+
+    private val lines: List<String> = listOf(
+        """{"id":"a1","quantity":1}""",
+        """{"id":"","quantity":2}""",
+        "",
+        """{"id":"a4","quantity":0}""",
+        """{"id":"a5","quantity":""",
+        """{"id":"a6","quantity":6}""",
+        """{"id":"","quantity":0}"""
+    )
+
+    init {
+        afterSpec {
+            validator.close()
+        }
+
+        test("NdjsonRegions#split on newline boundaries") {
+            withFile(lines.joinToString("\n")) { path ->
+                FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+                    val regions = NdjsonRegions.split(channel, 10)
+                    regions.sumOf { it.length } shouldBeEqual channel.size()
+                    regions.forEach { region ->
+                        if (region.start > 0) {
+                            val previous = NdjsonRegions.map(channel, regions[region.index - 1])
+                            previous.get(previous.limit() - 1) should be('\n'.code.toByte())
+                        }
+                    }
+                }
+            }
+        }
+
+        test("BulkValidator#report failures by line number") {
+            listOf(1L, 16L, 64L, BulkValidator.DEFAULT_REGION_SIZE).forEach { regionSize ->
+                withFile(lines.joinToString("\r\n") + "\n") { path ->
+                    val bulkValidator = BulkValidator.builder(Order::class.java)
+                        .withValidator(validator)
+                        .withParallelism(3)
+                        .withRegionSize(regionSize)
+                        .bulkValidator()
+
+                    val report = bulkValidator.validate(path)
+                    report.linesRead shouldBeEqual 7L
+                    report.isValid should be(false)
+                    report.results.keys.toList() shouldBeEqual listOf(2L, 4L, 5L, 7L)
+
+                    val line2 = report.results[2L] as BulkValidationReport.LineResult.Invalid
+                    line2.violations.map { it.path } shouldBeEqual listOf("id")
+                    line2.violations.first().message shouldBeEqual "must not be empty"
+
+                    val line4 = report.results[4L] as BulkValidationReport.LineResult.Invalid
+                    line4.violations.map { it.path } shouldBeEqual listOf("quantity")
+                    line4.violations.first().invalidValue should be("0")
+
+                    report.results[5L] should beInstanceOf<BulkValidationReport.LineResult.ParseFailure>()
+
+                    val line7 = report.results[7L] as BulkValidationReport.LineResult.Invalid
+                    line7.violations.map { it.path } shouldBeEqual listOf("id", "quantity")
+                }
+            }
+        }
+
+        test("BulkValidator#valid and empty files") {
+            val bulkValidator = BulkValidator.builder(Order::class.java)
+                .withValidator(validator)
+                .bulkValidator()
+
+            withFile("") { path ->
+                val report = bulkValidator.validate(path)
+                report.linesRead shouldBeEqual 0L
+                report.isValid should be(true)
+            }
+
+            withFile("""{"id":"a1","quantity":1}""") { path ->
+                val report = bulkValidator.validate(path)
+                report.linesRead shouldBeEqual 1L
+                report.isValid should be(true)
+            }
+        }
+
+        test("BulkValidator#report trailing content as a parse failure") {
+            val contents = listOf("""{"id":"a1","quantity":1} junk""", """{"id":"a2","quantity":2}""")
+            withFile(contents.joinToString("\n")) { path ->
+                val report = BulkValidator.builder(Order::class.java)
+                    .withValidator(validator)
+                    .bulkValidator()
+                    .validate(path)
+                report.results.keys.toList() shouldBeEqual listOf(1L)
+                report.results[1L] should beInstanceOf<BulkValidationReport.LineResult.ParseFailure>()
+            }
+        }
+
+        test("BulkValidator#report validation exceptions per line") {
+            withFile(listOf("""{"label":"a"}""", """{"label":1}""", """{"label":""}""").joinToString("\n")) { path ->
+                val report = BulkValidator.builder(Labelled::class.java)
+                    .withValidator(validator)
+                    .bulkValidator()
+                    .validate(path)
+                report.linesRead shouldBeEqual 3L
+                report.results.keys.toList() shouldBeEqual listOf(2L, 3L)
+                report.results[2L] should beInstanceOf<BulkValidationReport.LineResult.ValidationFailure>()
+                report.results[3L] should beInstanceOf<BulkValidationReport.LineResult.Invalid>()
+            }
+        }
+
+        test("BulkValidationReport#writeTo") {
+            withFile(lines.joinToString("\n")) { path ->
+                val report = BulkValidator.builder(Order::class.java)
+                    .withValidator(validator)
+                    .bulkValidator()
+                    .validate(path)
+
+                val writer = StringWriter()
+                report.writeTo(writer, jacksonObjectMapper())
+                val written = writer.toString().trim().split("\n")
+                written.size shouldBeEqual 4
+                written.first() shouldBeEqual
+                        """{"line":2,"violations":[{"path":"id","message":"must not be empty","invalidValue":""}]}"""
+            }
+        }
+
+        test("BulkValidatorMain#parse arguments") {
+            val arguments = BulkValidatorMain.parse(
+                arrayOf("--class", Order::class.java.name, "--parallelism", "2", "--region-size", "1024", "a.ndjson")
+            )
+            arguments.clazzName shouldBeEqual Order::class.java.name
+            arguments.parallelism shouldBeEqual 2
+            arguments.regionSize shouldBeEqual 1024L
+            arguments.inputs.map { it.toString() } shouldBeEqual listOf("a.ndjson")
+        }
+    }
+
+    private fun withFile(contents: String, fn: (Path) -> Unit) {
+        val path = Files.createTempFile("bulk-validator", ".ndjson")
+        try {
+            Files.writeString(path, contents)
+            fn(path)
+        } finally {
+            Files.deleteIfExists(path)
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package angstromio.validation.constraints;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a data class whose validation results may be cached by a {@code DataClassValidator} configured
+ * with a result cache.
+ *
+ * Only deeply immutable data classes, i.e., with final fields of immutable types, have their results cached,
+ * and by default only when they declare no {@code @PostConstructValidation} methods. Annotating a data class
+ * asserts that its {@code @PostConstructValidation} methods are pure, i.e., only depend on the state of the
+ * instance, such that its results are cached as well. The annotation does not make a data class with mutable
+ * fields cacheable.
+ */
+@Documented
+@Target({TYPE})
+@Retention(RUNTIME)
+public @interface CacheableValidation {
+}
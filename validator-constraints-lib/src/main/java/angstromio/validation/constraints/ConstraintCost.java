@@ -0,0 +1,44 @@
+package angstromio.validation.constraints;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares the relative cost of evaluating a constraint. Placed on a constraint annotation type, or on a
+ * {@code @PostConstructValidation} annotated method.
+ *
+ * When fail-fast validation is requested, a {@code DataClassValidator} evaluates cheap constraints which
+ * frequently fail first, such that an expensive constraint is not evaluated when a cheap one already fails.
+ *
+ * The declared cost is unitless and only compared with the declared costs of the other constraints of the
+ * same data class. Once enough evaluations of every constraint of a data class have been observed, their observed
+ * evaluation times replace the declared costs of all of them at once, declared costs and observed times are never
+ * compared with each other. Constraints which are rarely evaluated, e.g., behind a constraint which usually fails,
+ * thus keep the data class ordered by declared cost.
+ */
+@Documented
+@Target({ANNOTATION_TYPE, METHOD})
+@Retention(RUNTIME)
+public @interface ConstraintCost {
+
+    /** A constraint which does a constant amount of work, e.g., a null or range check. */
+    int CHEAP = 10;
+
+    /** The cost of a constraint which does not declare a cost. */
+    int DEFAULT = 100;
+
+    /** A constraint which does a lot of work, e.g., matches a regular expression or calls into another system. */
+    int EXPENSIVE = 1000;
+
+    /**
+     * The relative cost of evaluating the constraint, see {@link #CHEAP}, {@link #DEFAULT} and {@link #EXPENSIVE}.
+     *
+     * @return the relative cost.
+     */
+    int value() default DEFAULT;
+}
@@ -52,6 +52,25 @@ public @interface CountryCode {
      */
     Class<? extends Payload>[] payload() default {};
 
+    /**
+     * The ISO-3166-1 code formats accepted for the annotated field. Codes are matched case-insensitively.
+     *
+     * @return Array of accepted {@code Format} values, by default only alpha-2 codes.
+     */
+    Format[] formats() default {Format.ALPHA_2};
+
+    /**
+     * ISO-3166-1 country code formats.
+     */
+    enum Format {
+        /** Two-letter codes, e.g., {@code US}. */
+        ALPHA_2,
+        /** Three-letter codes, e.g., {@code USA}. */
+        ALPHA_3,
+        /** Three-digit codes, e.g., {@code 840}, either as a string or an integral number. */
+        NUMERIC
+    }
+
     /**
      * Defines several {@code @CountryCode} annotations on the same element.
      */
@@ -19,7 +19,8 @@ import static java.lang.annotation.ElementType.TYPE_USE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 /**
- * A constraint which enforces that the annotated field is a valid Java UUI.
+ * A constraint which enforces that the annotated field is a valid Java UUID in the canonical
+ * 36 character {@code 8-4-4-4-12} hexadecimal form.
  * Validated by the {@code UUIDConstraintValidator} class.
  */
 @Documented
@@ -52,6 +53,43 @@ public @interface UUID {
      */
     Class<? extends Payload>[] payload() default {};
 
+    /**
+     * The accepted UUID versions (the hexadecimal digit at index 14), e.g., {@code {4, 7}}.
+     *
+     * @return Array of accepted versions, empty to accept any version.
+     */
+    int[] versions() default {};
+
+    /**
+     * The accepted UUID variant (the high bits of the hexadecimal digit at index 19).
+     *
+     * @return the accepted {@code Variant}, by default any variant.
+     */
+    Variant variant() default Variant.ANY;
+
+    /**
+     * Whether only lowercase hexadecimal digits are accepted.
+     *
+     * @return true to reject uppercase hexadecimal digits.
+     */
+    boolean lowercase() default false;
+
+    /**
+     * UUID variants as defined by RFC 4122.
+     */
+    enum Variant {
+        /** Any variant. */
+        ANY,
+        /** Reserved, NCS backward compatibility ({@code 0xxx}). */
+        NCS,
+        /** The RFC 4122 variant ({@code 10xx}). */
+        RFC_4122,
+        /** Reserved, Microsoft Corporation backward compatibility ({@code 110x}). */
+        MICROSOFT,
+        /** Reserved for future definition ({@code 111x}). */
+        FUTURE
+    }
+
     /**
      * Defines several {@code @UUID} annotations on the same element.
      */
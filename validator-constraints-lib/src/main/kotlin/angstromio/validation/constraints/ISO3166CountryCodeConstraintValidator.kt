@@ -6,64 +6,160 @@ import jakarta.validation.ValidationException
 import java.util.*
 
 class ISO3166CountryCodeConstraintValidator : ConstraintValidator<CountryCode, Any> {
-    @Volatile
-    private var countryCode: CountryCode? = null
 
     companion object {
         /** @see [[https://www.iso.org/iso-3166-country-codes.html ISO 3166]] */
         val CountryCodes: Set<String> = Locale.getISOCountries().toSet()
-    }
 
-    override fun initialize(constraintAnnotation: CountryCode?) {
-        super.initialize(constraintAnnotation)
-        this.countryCode = constraintAnnotation
-    }
+        /** ISO 3166-1 numeric codes of the [CountryCodes], Java does not expose these. */
+        private const val NUMERIC_COUNTRY_CODES: String =
+            "004 008 010 012 016 020 024 028 031 032 036 040 044 048 050 051 052 056 060 064 " +
+                    "068 070 072 074 076 084 086 090 092 096 100 104 108 112 116 120 124 132 136 140 " +
+                    "144 148 152 156 158 162 166 170 174 175 178 180 184 188 191 192 196 203 204 208 " +
+                    "212 214 218 222 226 231 232 233 234 238 239 242 246 248 250 254 258 260 262 266 " +
+                    "268 270 275 276 288 292 296 300 304 308 312 316 320 324 328 332 334 336 340 344 " +
+                    "348 352 356 360 364 368 372 376 380 384 388 392 398 400 404 408 410 414 417 418 " +
+                    "422 426 428 430 434 438 440 442 446 450 454 458 462 466 470 474 478 480 484 492 " +
+                    "496 498 499 500 504 508 512 516 520 524 528 531 533 534 535 540 548 554 558 562 " +
+                    "566 570 574 578 580 581 583 584 585 586 591 598 600 604 608 612 616 620 624 626 " +
+                    "630 634 638 642 643 646 652 654 659 660 662 663 666 670 674 678 682 686 688 690 " +
+                    "694 702 703 704 705 706 710 716 724 728 729 732 740 744 748 752 756 760 762 764 " +
+                    "768 772 776 780 784 788 792 795 796 798 800 804 807 818 826 831 832 833 834 840 " +
+                    "850 854 858 860 862 876 882 887 894"
 
-    override fun isValid(value: Any?, context: ConstraintValidatorContext?): Boolean {
-        return when (value) {
-            null -> true
-            else -> {
-                when (value) {
-                    is Array<*> ->
-                        validationResult(value.toList(), context)
+        // bit tables indexed by the letters (base 26) or digits (base 10) of a code
+        private val Alpha2Codes: LongArray = bitTable(26 * 26, CountryCodes) { code -> alphaIndex(code) }
+        private val Alpha3Codes: LongArray =
+            bitTable(26 * 26 * 26, Locale.getISOCountries(Locale.IsoCountryCode.PART1_ALPHA3)) { code ->
+                alphaIndex(code)
+            }
+        private val NumericCodes: LongArray =
+            bitTable(1000, NUMERIC_COUNTRY_CODES.split(' ')) { code -> numericIndex(code) }
 
-                    is Map<*, *> ->
-                        throw ValidationException("Map type is not supported for fields validated by ${CountryCode::class.java.name}")
+        private fun bitTable(size: Int, codes: Iterable<String>, index: (String) -> Int): LongArray {
+            val table = LongArray((size + 63) / 64)
+            codes.forEach { code ->
+                val bit = index(code)
+                if (bit >= 0) table[bit ushr 6] = table[bit ushr 6] or (1L shl bit)
+            }
+            return table
+        }
 
-                    is Collection<*> ->
-                        validationResult(value.toList(), context)
+        private fun isSet(table: LongArray, bit: Int): Boolean =
+            bit >= 0 && (table[bit ushr 6] and (1L shl bit)) != 0L
 
-                    else ->
-                        validationResult(listOf(value), context)
+        /** @return the base 26 value of the ASCII letters, case-insensitive, or -1 if not all letters. */
+        private fun alphaIndex(value: CharSequence): Int {
+            var index = 0
+            var i = 0
+            while (i < value.length) {
+                val c = value[i]
+                val letter = when (c) {
+                    in 'A'..'Z' -> c - 'A'
+                    in 'a'..'z' -> c - 'a'
+                    else -> return -1
                 }
+                index = index * 26 + letter
+                i += 1
+            }
+            return index
+        }
+
+        /** @return the base 10 value of the ASCII digits, or -1 if not all digits. */
+        private fun numericIndex(value: CharSequence): Int {
+            var index = 0
+            var i = 0
+            while (i < value.length) {
+                val c = value[i]
+                if (c !in '0'..'9') return -1
+                index = index * 10 + (c - '0')
+                i += 1
             }
+            return index
         }
     }
 
-    private fun validationResult(
-        value: Iterable<*>,
-        constraintValidatorContext: ConstraintValidatorContext?
-    ): Boolean {
-        val invalidCountryCodes = findInvalidCountryCodes(value)
-        val valueAsList = value.toList()
+    private lateinit var message: String
+    private var alpha2: Boolean = true
+    private var alpha3: Boolean = false
+    private var numeric: Boolean = false
+
+    override fun initialize(constraintAnnotation: CountryCode) {
+        super.initialize(constraintAnnotation)
+        this.message = constraintAnnotation.message
+        val formats = constraintAnnotation.formats
+        this.alpha2 = formats.contains(CountryCode.Format.ALPHA_2)
+        this.alpha3 = formats.contains(CountryCode.Format.ALPHA_3)
+        this.numeric = formats.contains(CountryCode.Format.NUMERIC)
+    }
+
+    override fun isValid(value: Any?, context: ConstraintValidatorContext?): Boolean {
         // an empty value is not a valid country code
-        val valid = if (valueAsList.isEmpty()) false else invalidCountryCodes.isEmpty()
+        val valid = when (value) {
+            null -> return true
+            is Array<*> -> value.isNotEmpty() && isCountryCodes(value)
+            is Map<*, *> ->
+                throw ValidationException("Map type is not supported for fields validated by ${CountryCode::class.java.name}")
+            is Collection<*> -> value.isNotEmpty() && isCountryCodes(value)
+            else -> isCountryCode(value)
+        }
         if (!valid) {
             ConstraintValidatorContextBuilder
-                .addExpressionVariable("validatedValue", valueToString(valueAsList))
-                .withMessageTemplate(countryCode!!.message)
-                .addConstraintViolation(constraintValidatorContext)
+                .addExpressionVariable("validatedValue", valueToString(value))
+                .withMessageTemplate(message)
+                .addConstraintViolation(context)
         }
         return valid
     }
 
-    private fun valueToString(value: List<*>): String {
-        val valueString = value.joinToString()
+    private fun isCountryCodes(values: Array<*>): Boolean {
+        var index = 0
+        while (index < values.size) {
+            if (!isCountryCode(values[index])) return false
+            index += 1
+        }
+        return true
+    }
+
+    private fun isCountryCodes(values: Collection<*>): Boolean {
+        if (values is List<*> && values is RandomAccess) {
+            var index = 0
+            while (index < values.size) {
+                if (!isCountryCode(values[index])) return false
+                index += 1
+            }
+        } else {
+            val iterator = values.iterator()
+            while (iterator.hasNext()) {
+                if (!isCountryCode(iterator.next())) return false
+            }
+        }
+        return true
+    }
+
+    private fun isCountryCode(value: Any?): Boolean = when (value) {
+        is CharSequence -> isCountryCode(value)
+        is Int, is Long, is Short, is Byte -> {
+            val number = (value as Number).toLong()
+            numeric && number in 0L..999L && isSet(NumericCodes, number.toInt())
+        }
+        else -> isCountryCode(value.toString())
+    }
+
+    private fun isCountryCode(value: CharSequence): Boolean = when (value.length) {
+        2 -> alpha2 && isSet(Alpha2Codes, alphaIndex(value))
+        3 -> (alpha3 && isSet(Alpha3Codes, alphaIndex(value))) || (numeric && isSet(NumericCodes, numericIndex(value)))
+        else -> false
+    }
+
+    private fun valueToString(value: Any?): String {
+        val valueString = when (value) {
+            is Array<*> -> value.joinToString()
+            is Collection<*> -> value.joinToString()
+            else -> value.toString()
+        }
         return valueString.ifEmpty {
             "<empty>"
         }
     }
-
-    private fun findInvalidCountryCodes(values: Iterable<*>): List<String> =
-        values.toSet().map { it.toString().uppercase() }.asSequence().minus(CountryCodes).toList()
-}
\ No newline at end of file
+}
@@ -1,69 +1,147 @@
 package angstromio.validation.constraints
 
-import arrow.core.toNonEmptyListOrNull
 import jakarta.validation.ConstraintValidator
 import jakarta.validation.ConstraintValidatorContext
 import jakarta.validation.ValidationException
 
 internal class OneOfConstraintValidator : ConstraintValidator<OneOf, Any> {
 
-    @Volatile
-    private var oneOf: OneOf? = null
-    @Volatile
-    private var values: Set<String>? = emptySet()
-
-    override fun initialize(constraintAnnotation: OneOf?) {
-        super.initialize(constraintAnnotation)
-        this.oneOf = constraintAnnotation
-        this.values = constraintAnnotation?.value?.toSet()
+    companion object {
+        /** Whether [Enum.name] is equal to [Enum.toString] for the instances of an enum class. */
+        private val EnumToStringIsName: ClassValue<Boolean> = object : ClassValue<Boolean>() {
+            override fun computeValue(type: Class<*>): Boolean =
+                type.getMethod("toString").declaringClass == Enum::class.java
+        }
     }
 
-    override fun isValid(value: Any?, context: ConstraintValidatorContext?): Boolean {
-        return when (value) {
-            null -> true
-            else -> {
-                when (value) {
-                    is Array<*> ->
-                        validationResult(value.toList(), this.values!!, context)
-
-                    is Map<*, *> ->
-                        throw ValidationException("Map type is not supported for fields validated by ${OneOf::class.java.name}")
-
-                    is Collection<*> ->
-                        validationResult(value.toList(), this.values!!, context)
-
-                    else ->
-                        validationResult(listOf(value), this.values!!, context)
-                }
+    /**
+     * An immutable open-addressed hash set of the "one of" values which can be queried with
+     * any [CharSequence] without first copying it into a [String].
+     */
+    private class Lookup(values: Array<String>) {
+        private val table: Array<String?>
+        private val hashes: IntArray
+        private val mask: Int
+
+        init {
+            var capacity = 2
+            while (capacity < values.size * 2) capacity = capacity shl 1
+            table = arrayOfNulls(capacity)
+            hashes = IntArray(capacity)
+            mask = capacity - 1
+            values.forEach { value ->
+                val hash = value.hashCode()
+                var index = spread(hash) and mask
+                while (table[index] != null && table[index] != value) index = (index + 1) and mask
+                table[index] = value
+                hashes[index] = hash
             }
         }
+
+        fun contains(value: CharSequence): Boolean {
+            // same as String#hashCode, which is cached for strings
+            val hash = if (value is String) value.hashCode() else hashOf(value)
+            var index = spread(hash) and mask
+            while (true) {
+                val candidate = table[index] ?: return false
+                if (hashes[index] == hash && contentEquals(candidate, value)) return true
+                index = (index + 1) and mask
+            }
+        }
+
+        private fun spread(hash: Int): Int = hash xor (hash ushr 16)
+
+        private fun hashOf(value: CharSequence): Int {
+            var hash = 0
+            var index = 0
+            while (index < value.length) {
+                hash = 31 * hash + value[index].code
+                index += 1
+            }
+            return hash
+        }
+
+        private fun contentEquals(candidate: String, value: CharSequence): Boolean {
+            if (value is String) return candidate == value
+            if (candidate.length != value.length) return false
+            var index = 0
+            while (index < candidate.length) {
+                if (candidate[index] != value[index]) return false
+                index += 1
+            }
+            return true
+        }
     }
 
-    private fun validationResult(
-        value: Iterable<*>,
-        oneOfValues: Set<String>,
-        constraintValidatorContext: ConstraintValidatorContext?
-    ): Boolean {
-        val invalidValues = findInvalidValues(value, oneOfValues)
+    private lateinit var message: String
+    private lateinit var lookup: Lookup
+
+    override fun initialize(constraintAnnotation: OneOf) {
+        super.initialize(constraintAnnotation)
+        this.message = constraintAnnotation.message
+        this.lookup = Lookup(constraintAnnotation.value)
+    }
+
+    override fun isValid(value: Any?, context: ConstraintValidatorContext?): Boolean {
         // an empty value is not one of the given values
-        val valid = if (value.toNonEmptyListOrNull() == null) false else invalidValues.isEmpty()
+        val valid = when (value) {
+            null -> return true
+            is Array<*> -> value.isNotEmpty() && isOneOf(value)
+            is Map<*, *> ->
+                throw ValidationException("Map type is not supported for fields validated by ${OneOf::class.java.name}")
+            is Collection<*> -> value.isNotEmpty() && isOneOf(value)
+            else -> isOneOfValue(value)
+        }
         if (!valid) {
-            ConstraintValidatorContextBuilder.addExpressionVariable("validatedValue", valueToString(value.toList()))
-                .withMessageTemplate(oneOf!!.message)
-                .addConstraintViolation(constraintValidatorContext)
+            ConstraintValidatorContextBuilder.addExpressionVariable("validatedValue", valueToString(value))
+                .withMessageTemplate(message)
+                .addConstraintViolation(context)
         }
         return valid
     }
 
-    private fun valueToString(value: List<*>): String {
-        val valueString = value.joinToString()
+    private fun isOneOf(values: Array<*>): Boolean {
+        var index = 0
+        while (index < values.size) {
+            if (!isOneOfValue(values[index])) return false
+            index += 1
+        }
+        return true
+    }
+
+    private fun isOneOf(values: Collection<*>): Boolean {
+        if (values is List<*> && values is RandomAccess) {
+            var index = 0
+            while (index < values.size) {
+                if (!isOneOfValue(values[index])) return false
+                index += 1
+            }
+        } else {
+            val iterator = values.iterator()
+            while (iterator.hasNext()) {
+                if (!isOneOfValue(iterator.next())) return false
+            }
+        }
+        return true
+    }
+
+    // values are compared by their string representation
+    private fun isOneOfValue(value: Any?): Boolean = when (value) {
+        is CharSequence -> lookup.contains(value)
+        is Enum<*> ->
+            if (EnumToStringIsName.get(value.javaClass)) lookup.contains(value.name)
+            else lookup.contains(value.toString())
+        else -> lookup.contains(value.toString())
+    }
+
+    private fun valueToString(value: Any?): String {
+        val valueString = when (value) {
+            is Array<*> -> value.joinToString()
+            is Collection<*> -> value.joinToString()
+            else -> value.toString()
+        }
         return valueString.ifEmpty {
             "<empty>"
         }
     }
-
-    private fun findInvalidValues(
-        value: Iterable<*>,
-        oneOfValues: Set<String>
-    ): List<String> = value.map { it.toString() }.asSequence().minus(oneOfValues).toList()
-}
\ No newline at end of file
+}
@@ -5,19 +5,63 @@ import jakarta.validation.ConstraintValidatorContext
 
 class UUIDConstraintValidator : ConstraintValidator<UUID, String> {
 
-    override fun initialize(constraintAnnotation: UUID?) {
+    companion object {
+        private const val LENGTH: Int = 36
+        private const val VERSION_INDEX: Int = 14
+        private const val VARIANT_INDEX: Int = 19
+
+        private fun isDash(index: Int): Boolean =
+            index == 8 || index == 13 || index == 18 || index == 23
+
+        /** @return the value of the hexadecimal digit, or -1 if not a (permitted) hexadecimal digit. */
+        private fun hexValue(c: Char, lowercase: Boolean): Int = when (c) {
+            in '0'..'9' -> c - '0'
+            in 'a'..'f' -> c - 'a' + 10
+            in 'A'..'F' -> if (lowercase) -1 else c - 'A' + 10
+            else -> -1
+        }
+
+        private fun isVariant(variant: UUID.Variant, value: Int): Boolean = when (variant) {
+            UUID.Variant.ANY -> true
+            UUID.Variant.NCS -> value < 0x8
+            UUID.Variant.RFC_4122 -> value in 0x8..0xb
+            UUID.Variant.MICROSOFT -> value in 0xc..0xd
+            UUID.Variant.FUTURE -> value >= 0xe
+        }
+    }
+
+    // bit per accepted version, all bits set to accept any version
+    private var versions: Int = -1
+    private var variant: UUID.Variant = UUID.Variant.ANY
+    private var lowercase: Boolean = false
+
+    override fun initialize(constraintAnnotation: UUID) {
         super.initialize(constraintAnnotation)
+        if (constraintAnnotation.versions.isNotEmpty()) {
+            this.versions = constraintAnnotation.versions.fold(0) { mask, version ->
+                if (version in 0..15) mask or (1 shl version) else mask
+            }
+        }
+        this.variant = constraintAnnotation.variant
+        this.lowercase = constraintAnnotation.lowercase
     }
 
     override fun isValid(value: String?, context: ConstraintValidatorContext?): Boolean {
-        return if (value == null) {
-            true
-        } else {
-            try {
-                java.util.UUID.fromString(value); true
-            } catch (e: Exception) {
-                false
+        if (value == null) return true
+        if (value.length != LENGTH) return false
+        var index = 0
+        while (index < LENGTH) {
+            val c = value[index]
+            if (isDash(index)) {
+                if (c != '-') return false
+            } else {
+                val digit = hexValue(c, lowercase)
+                if (digit < 0) return false
+                if (index == VERSION_INDEX && (versions and (1 shl digit)) == 0) return false
+                if (index == VARIANT_INDEX && !isVariant(variant, digit)) return false
             }
+            index += 1
         }
+        return true
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,47 @@
 package angstromio.validation
 
-import angstromio.util.control.NonFatal
-import angstromio.util.extensions.Annotations.eq
 import angstromio.util.extensions.Annotations.notEq
 import angstromio.util.extensions.Anys.isInstanceOf
-import angstromio.util.extensions.Nulls.mapNotNull
-import angstromio.util.extensions.Nulls.whenNotNull
 import angstromio.validation.cfg.ConstraintMapping
-import angstromio.validation.constraints.PostConstructValidation
+import angstromio.validation.engine.CancellationToken
+import angstromio.validation.engine.DescriptorCachePolicy
+import angstromio.validation.engine.DescriptorCacheStats
+import angstromio.validation.engine.FootprintReport
 import angstromio.validation.engine.PostConstructValidationResult
+import angstromio.validation.engine.ResultCacheStats
+import angstromio.validation.engine.ValidationLimitExceededException
+import angstromio.validation.engine.ValidationLimits
+import angstromio.validation.engine.ValidationMetadataRegistry
+import angstromio.validation.engine.ValidationResult
+import angstromio.validation.engine.ValidationTimeoutException
 import angstromio.validation.internal.ConstraintValidatorFactoryHelper
+import angstromio.validation.internal.LazyMessageInterpolator
 import angstromio.validation.internal.Types
+import angstromio.validation.internal.ValidationBudget
 import angstromio.validation.internal.ValidationContext
+import angstromio.validation.internal.ValidationSession
 import angstromio.validation.internal.constraintvalidation.ConstraintValidatorContextFactory
-import angstromio.validation.internal.engine.ClassHelper
+import angstromio.validation.internal.engine.CacheableClasses
+import angstromio.validation.internal.engine.CascadeFrame
+import angstromio.validation.internal.engine.CascadeStack
+import angstromio.validation.internal.engine.ConstraintNode
 import angstromio.validation.internal.engine.ConstraintViolationHelper
+import angstromio.validation.internal.engine.DataClassPlan
+import angstromio.validation.internal.engine.FootprintEstimator
+import angstromio.validation.internal.engine.GroupRegistry
+import angstromio.validation.internal.engine.GroupSequences
+import angstromio.validation.internal.engine.Groups
+import angstromio.validation.internal.engine.ValidationMetadata
+import angstromio.validation.internal.jfr.PostConstructValidationEvent
+import angstromio.validation.internal.jfr.SlowConstraintEvent
+import angstromio.validation.internal.jfr.ValidateEvent
+import angstromio.validation.internal.metadata.KotlinMetadata
 import angstromio.validation.internal.metadata.descriptor.ConstraintDescriptorFactory
+import angstromio.validation.internal.metadata.descriptor.LazyBeanDescriptor
+import angstromio.validation.tools.FootprintAgent
 import arrow.core.memoize
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
 import jakarta.validation.ConstraintValidator
 import jakarta.validation.ConstraintValidatorContext
 import jakarta.validation.ConstraintViolation
@@ -25,14 +50,14 @@ import jakarta.validation.UnexpectedTypeException
 import jakarta.validation.Validation
 import jakarta.validation.ValidationException
 import jakarta.validation.Validator
+import jakarta.validation.constraints.Size
 import jakarta.validation.executable.ExecutableValidator
 import jakarta.validation.groups.Default
 import jakarta.validation.metadata.BeanDescriptor
 import jakarta.validation.metadata.ConstraintDescriptor
+import jakarta.validation.metadata.ContainerDescriptor
 import jakarta.validation.metadata.ElementDescriptor
 import jakarta.validation.metadata.ExecutableDescriptor
-import jakarta.validation.metadata.MethodDescriptor
-import jakarta.validation.metadata.MethodType
 import jakarta.validation.metadata.PropertyDescriptor
 import jakarta.validation.spi.ValidationProvider
 import org.hibernate.validator.HibernateValidator
@@ -51,58 +76,137 @@ import org.hibernate.validator.internal.properties.javabean.JavaBeanFactory
 import org.hibernate.validator.internal.util.ExecutableHelper
 import org.hibernate.validator.internal.util.annotation.AnnotationDescriptor
 import org.hibernate.validator.internal.util.annotation.AnnotationFactory
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator
 import java.lang.reflect.Constructor
 import java.lang.reflect.Executable
-import java.lang.reflect.InvocationTargetException
 import java.lang.reflect.Method
 import java.util.*
 import kotlin.reflect.KFunction
 
 @Suppress("UNCHECKED_CAST")
-class DataClassValidator(
-    cacheSize: Long,
+class DataClassValidator internal constructor(
     private val validatorFactory: ValidatorFactoryInspector,
+    resultCacheSize: Long,
+    private val resultCacheClasses: Set<Class<*>>,
+    private val failFast: Boolean,
+    private val limits: ValidationLimits,
+    private val metadata: ValidationMetadata,
+    private val isSharedMetadata: Boolean
 ) : Validator, ExecutableValidator {
 
+    constructor(
+        cacheSize: Long,
+        validatorFactory: ValidatorFactoryInspector,
+        resultCacheSize: Long = 0L,
+        resultCacheClasses: Set<Class<*>> = emptySet(),
+        failFast: Boolean = false,
+        limits: ValidationLimits = ValidationLimits.Unlimited
+    ) : this(
+        validatorFactory = validatorFactory,
+        resultCacheSize = resultCacheSize,
+        resultCacheClasses = resultCacheClasses,
+        failFast = failFast,
+        limits = limits,
+        metadata = ValidationMetadata(DescriptorCachePolicy(maximumSize = cacheSize), validatorFactory),
+        isSharedMetadata = false
+    )
+
     companion object {
         init {
             // force Hibernate Validator to use slf4j-api for logging
             System.setProperty("org.jboss.logging.provider", "slf4j")
         }
 
-        /** The size of the caffeine cache that is used to store reflection data on a validated data class. */
-        private const val DEFAULT_DESCRIPTOR_CACHE_SIZE: Long = 128
-
         fun builder(): Builder = Builder()
 
         operator fun invoke(): DataClassValidator = builder().validator()
     }
 
     class Builder(
-        internal val descriptorCacheSize: Long = DEFAULT_DESCRIPTOR_CACHE_SIZE,
+        private val descriptorCachePolicy: DescriptorCachePolicy = DescriptorCachePolicy(),
         private val messageInterpolator: MessageInterpolator? = null,
-        private val constraintMappings: Set<ConstraintMapping> = emptySet()
+        private val constraintMappings: Set<ConstraintMapping> = emptySet(),
+        private val resultCacheSize: Long = 0L,
+        private val resultCacheClasses: Set<Class<*>> = emptySet(),
+        private val failFast: Boolean = false,
+        private val limits: ValidationLimits = ValidationLimits.Unlimited,
+        private val fastBootstrap: Boolean = false,
+        private val metadataRegistry: ValidationMetadataRegistry? = null
     ) {
 
+        /** The size of the caffeine cache that is used to store reflection data on a validated data class. */
+        internal val descriptorCacheSize: Long
+            get() = descriptorCachePolicy.maximumSize
+
         fun withDescriptorCacheSize(size: Long): Builder =
             Builder(
-                descriptorCacheSize = size,
+                descriptorCachePolicy = this.descriptorCachePolicy.copy(maximumSize = size),
                 messageInterpolator = this.messageInterpolator,
-                constraintMappings = this.constraintMappings
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
+            )
+
+        /**
+         * Configure the cache of data class descriptors, see [DescriptorCachePolicy].
+         *
+         * @param maximumSize     the maximum number of cached descriptors, when not weighted.
+         * @param maximumWeight   if greater than 0, bound the cache by the total complexity of the cached descriptors.
+         * @param pinnedClasses   the data classes the descriptors of which are never evicted.
+         * @param softValues      whether cached descriptors are evicted by the garbage collector under memory pressure.
+         * @param autoTuneMaximum if greater than the bound, grow the bound up to this maximum while the miss rate
+         *                        of the cache is high.
+         * @see [DataClassValidator.descriptorCacheStats]
+         */
+        fun withDescriptorCache(
+            maximumSize: Long = DescriptorCachePolicy.DEFAULT_MAXIMUM_SIZE,
+            maximumWeight: Long = 0L,
+            pinnedClasses: Set<Class<*>> = emptySet(),
+            softValues: Boolean = false,
+            autoTuneMaximum: Long = 0L
+        ): Builder =
+            Builder(
+                descriptorCachePolicy = DescriptorCachePolicy(
+                    maximumSize, maximumWeight, pinnedClasses, softValues, autoTuneMaximum
+                ),
+                messageInterpolator = this.messageInterpolator,
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
             )
 
         fun withMessageInterpolator(messageInterpolator: MessageInterpolator): Builder =
             Builder(
-                descriptorCacheSize = this.descriptorCacheSize,
+                descriptorCachePolicy = this.descriptorCachePolicy,
                 messageInterpolator = messageInterpolator,
-                constraintMappings = this.constraintMappings
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
             )
 
         fun withConstraintMappings(constraintMappings: Set<ConstraintMapping>): Builder =
             Builder(
-                descriptorCacheSize = this.descriptorCacheSize,
+                descriptorCachePolicy = this.descriptorCachePolicy,
                 messageInterpolator = this.messageInterpolator,
-                constraintMappings = constraintMappings
+                constraintMappings = constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
             )
 
         /**
@@ -111,16 +215,173 @@ class DataClassValidator(
          */
         fun withConstraintMapping(constraintMapping: ConstraintMapping): Builder =
             Builder(
-                descriptorCacheSize = this.descriptorCacheSize,
+                descriptorCachePolicy = this.descriptorCachePolicy,
+                messageInterpolator = this.messageInterpolator,
+                constraintMappings = setOf(constraintMapping),
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
+            )
+
+        /**
+         * Enable a bounded cache of the violations returned by [DataClassValidator.validate] for instances of
+         * cacheable data classes, keyed by instance equality and the requested groups. A data class is cacheable
+         * when it is deeply immutable and declares no `@PostConstructValidation` methods, or when it is annotated
+         * with [angstromio.validation.constraints.CacheableValidation].
+         *
+         * @param maximumSize the maximum number of cached results, 0 disables the cache.
+         * @param clazzes     if not empty, only results of these cacheable data classes are cached.
+         * @note the root and leaf beans of a cached violation may be an instance equal to, but not the
+         *       same as, the validated instance.
+         */
+        fun withResultCache(maximumSize: Long, clazzes: Set<Class<*>> = emptySet()): Builder =
+            Builder(
+                descriptorCachePolicy = this.descriptorCachePolicy,
+                messageInterpolator = this.messageInterpolator,
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = maximumSize,
+                resultCacheClasses = clazzes,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
+            )
+
+        /**
+         * Enable fail-fast validation: [DataClassValidator.validate] returns as soon as a constraint reports a
+         * violation, thus returns at most the violations of a single constraint. The constraints of a data class
+         * are evaluated in the order which is expected to find a failing constraint the cheapest, based upon the
+         * declared [angstromio.validation.constraints.ConstraintCost] and the observed evaluation time and
+         * failure rate of each constraint.
+         */
+        fun withFailFast(failFast: Boolean): Builder =
+            Builder(
+                descriptorCachePolicy = this.descriptorCachePolicy,
+                messageInterpolator = this.messageInterpolator,
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
+            )
+
+        /**
+         * Limit the work of a single validation call. When a limit is exceeded the validation stops:
+         * [DataClassValidator.validate] throws a [ValidationLimitExceededException] and
+         * [DataClassValidator.validateAll] returns a [ValidationResult.Truncated] with the violations found up
+         * to that point. With any limit configured, the elements of a cascaded collection are not validated
+         * when a `@Size` constraint of the collection already reports a violation.
+         *
+         * @param maxViolations         the maximum number of violations returned.
+         * @param maxDepth              the maximum number of nested cascades into data classes.
+         * @param maxCollectionElements the maximum number of validated elements of a single cascaded collection.
+         * @param maxNodesVisited       the maximum number of validated cascaded data class instances.
+         */
+        fun withLimits(
+            maxViolations: Int = Int.MAX_VALUE,
+            maxDepth: Int = Int.MAX_VALUE,
+            maxCollectionElements: Int = Int.MAX_VALUE,
+            maxNodesVisited: Int = Int.MAX_VALUE
+        ): Builder =
+            Builder(
+                descriptorCachePolicy = this.descriptorCachePolicy,
+                messageInterpolator = this.messageInterpolator,
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = ValidationLimits(maxViolations, maxDepth, maxCollectionElements, maxNodesVisited),
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = this.metadataRegistry
+            )
+
+        /**
+         * Enable a faster bootstrap of the underlying Hibernate Validator: `META-INF/validation.xml` is not parsed,
+         * validation providers are not discovered, and, unless a [MessageInterpolator] is configured, the creation
+         * of the default expression language based message interpolator is deferred until the first message is
+         * interpolated.
+         */
+        fun withFastBootstrap(fastBootstrap: Boolean): Builder =
+            Builder(
+                descriptorCachePolicy = this.descriptorCachePolicy,
+                messageInterpolator = this.messageInterpolator,
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = fastBootstrap,
+                metadataRegistry = this.metadataRegistry
+            )
+
+        /**
+         * Share the descriptors and compiled validation plans of validated data classes with the other validators
+         * built with the given [ValidationMetadataRegistry], the same constraint mappings and the same bootstrap
+         * mode, see [withFastBootstrap]. The message interpolator remains per validator.
+         *
+         * @note the descriptor cache policy of the registry applies instead of [withDescriptorCacheSize] and
+         *       [withDescriptorCache].
+         */
+        fun withMetadataRegistry(metadataRegistry: ValidationMetadataRegistry): Builder =
+            Builder(
+                descriptorCachePolicy = this.descriptorCachePolicy,
                 messageInterpolator = this.messageInterpolator,
-                constraintMappings = setOf(constraintMapping)
+                constraintMappings = this.constraintMappings,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                fastBootstrap = this.fastBootstrap,
+                metadataRegistry = metadataRegistry
             )
 
         fun validator(): DataClassValidator {
+            val validatorFactory = buildValidatorFactory(messageInterpolator, fastBootstrap)
+            // the shared metadata does not interpolate messages, thus its factory never creates an interpolator
+            val metadata = metadataRegistry?.metadata(constraintMappings, fastBootstrap) {
+                buildValidatorFactory(LazyMessageInterpolator { ResourceBundleMessageInterpolator() }, fastBootstrap)
+            }
+
+            return DataClassValidator(
+                validatorFactory = validatorFactory,
+                resultCacheSize = this.resultCacheSize,
+                resultCacheClasses = this.resultCacheClasses,
+                failFast = this.failFast,
+                limits = this.limits,
+                metadata = metadata ?: ValidationMetadata(this.descriptorCachePolicy, validatorFactory),
+                isSharedMetadata = metadata != null
+            )
+        }
+
+        private fun buildValidatorFactory(
+            messageInterpolator: MessageInterpolator?,
+            fastBootstrap: Boolean
+        ): ValidatorFactoryInspector {
             val configuration: HibernateValidatorConfiguration =
-                Validation
-                    .byProvider(HibernateValidator::class.java as Class<ValidationProvider<HibernateValidatorConfiguration>>)
-                    .configure()
+                if (fastBootstrap) {
+                    Validation
+                        .byProvider(HibernateValidator::class.java as Class<ValidationProvider<HibernateValidatorConfiguration>>)
+                        .providerResolver { listOf(HibernateValidator()) }
+                        .configure()
+                        .ignoreXmlConfiguration()
+                        .also { configuration ->
+                            // the default interpolator initializes expression language support when created
+                            if (messageInterpolator == null) {
+                                configuration.messageInterpolator(
+                                    LazyMessageInterpolator { ResourceBundleMessageInterpolator() }
+                                )
+                            }
+                        }
+                } else {
+                    Validation
+                        .byProvider(HibernateValidator::class.java as Class<ValidationProvider<HibernateValidatorConfiguration>>)
+                        .configure()
+                }
             // add user-configured message interpolator
             messageInterpolator?.let { interpolator ->
                 configuration.messageInterpolator(interpolator)
@@ -136,19 +397,15 @@ class DataClassValidator(
                 configuration.addMapping(hibernateConstraintMapping)
             }
 
-            return DataClassValidator(
-                cacheSize = this.descriptorCacheSize,
-                ValidatorFactoryInspector(configuration.buildValidatorFactory() as ValidatorFactoryImpl)
-            )
+            return ValidatorFactoryInspector(configuration.buildValidatorFactory() as ValidatorFactoryImpl)
         }
     }
 
     private val constraintViolationHelper: ConstraintViolationHelper = ConstraintViolationHelper(validatorFactory)
 
-    private val constraintDescriptorFactory: ConstraintDescriptorFactory = ConstraintDescriptorFactory(validatorFactory)
+    private val constraintDescriptorFactory: ConstraintDescriptorFactory = metadata.constraintDescriptorFactory
 
-    internal val descriptorFactory: DescriptorFactory =
-        DescriptorFactory(cacheSize, validatorFactory, constraintDescriptorFactory)
+    internal val descriptorFactory: DescriptorFactory = metadata.descriptorFactory
 
     private val constraintValidatorContextFactory: ConstraintValidatorContextFactory =
         ConstraintValidatorContextFactory(validatorFactory)
@@ -156,8 +413,28 @@ class DataClassValidator(
     private val constraintValidatorManager: ConstraintValidatorManager =
         validatorFactory.constraintCreationContext.constraintValidatorManager
 
+    private val groupRegistry: GroupRegistry = metadata.groupRegistry
+
+    /** The initialized validators of constraints not resolved by Hibernate Validator, by constraint annotation. */
+    private val initializedConstraintValidatorsCache: Cache<Annotation, Set<ConstraintValidator<Annotation, Any>>> =
+        Caffeine
+            .newBuilder()
+            .build()
+
+    private val resultCache: Cache<ResultCacheKey, Set<ConstraintViolation<*>>>? =
+        if (resultCacheSize > 0L) {
+            Caffeine
+                .newBuilder()
+                .maximumSize(resultCacheSize)
+                .recordStats()
+                .build()
+        } else null
+
     fun close() {
-        descriptorFactory.close()
+        resultCache?.invalidateAll()
+        initializedConstraintValidatorsCache.invalidateAll()
+        // shared metadata is closed with its ValidationMetadataRegistry
+        if (!isSharedMetadata) metadata.close()
         validatorFactory.close()
     }
 
@@ -170,13 +447,16 @@ class DataClassValidator(
     override fun <T : Any> validate(
         obj: T,
         vararg groups: Class<*>
-    ): Set<ConstraintViolation<T>> =
-        validateDescriptor(
-            descriptor = null,
-            context = ValidationContext(null, null, null, null, PathImpl.createRootPath()),
-            value = obj,
-            groups = groups.toList()
-        )
+    ): Set<ConstraintViolation<T>> {
+        val cache = resultCache
+        return if (cache != null && isResultCacheable(obj.javaClass)) {
+            val key = ResultCacheKey(obj, groups.toSet())
+            // no computing get, validation may re-enter the validator from @PostConstructValidation methods
+            (cache.getIfPresent(key) ?: Collections.unmodifiableSet(validateRoot(obj, groups)).also { violations ->
+                cache.put(key, violations)
+            }) as Set<ConstraintViolation<T>>
+        } else validateRoot(obj, groups)
+    }
 
     /** @inheritDoc */
     override fun <T : Any> validateValue(
@@ -190,7 +470,7 @@ class DataClassValidator(
         return when (val propertyDescriptor =
             descriptor.constrainedProperties.find { it.propertyName == propertyName }) {
             null -> emptySet()
-            else -> {
+            else -> validateGroups(beanType, groups) { requestedGroups ->
                 val path = PathImpl.createRootPath()
                 validateDescriptor(
                     descriptor = propertyDescriptor,
@@ -202,7 +482,7 @@ class DataClassValidator(
                         path = path
                     ),
                     value = value,
-                    groups = groups.toList()
+                    groups = requestedGroups
                 )
             }
         }
@@ -219,14 +499,16 @@ class DataClassValidator(
         val descriptor = getConstraintsForClass(obj::class.java)
         return when (descriptor.constrainedProperties.find { it.propertyName == propertyName }) {
             null -> throw IllegalArgumentException("$propertyName is not a field of ${descriptor.elementClass}.")
-            else -> validateDescriptor(
-                descriptor = descriptor,
-                context = ValidationContext(
-                    propertyName, obj.javaClass, obj, obj, PathImpl.createRootPath()
-                ),
-                value = obj,
-                groups = groups.toList()
-            )
+            else -> validateGroups(obj.javaClass, groups) { requestedGroups ->
+                validateDescriptor(
+                    descriptor = descriptor,
+                    context = ValidationContext(
+                        propertyName, obj.javaClass, obj, obj, PathImpl.createRootPath()
+                    ),
+                    value = obj,
+                    groups = requestedGroups
+                )
+            }
         }
     }
 
@@ -264,7 +546,7 @@ class DataClassValidator(
                     executable = method,
                     executableDescriptor = methodDescriptor,
                     parameterValues = parameterValues,
-                    groups = groups.toList()
+                    groups = groupRegistry.resolve(groups.toList())
                 )
         }
     }
@@ -294,7 +576,7 @@ class DataClassValidator(
                     ),
                     executableDescriptor = methodDescriptor,
                     value = returnValue,
-                    groups = groups.toList()
+                    groups = groupRegistry.resolve(groups.toList())
                 )
             }
         }
@@ -315,7 +597,7 @@ class DataClassValidator(
                 executable = constructor,
                 executableDescriptor = constructorDescriptor,
                 parameterValues = parameterValues,
-                groups = groups.toList()
+                groups = groupRegistry.resolve(groups.toList())
             )
         }
     }
@@ -346,7 +628,7 @@ class DataClassValidator(
                     ),
                     executableDescriptor = constructorDescriptor,
                     value = createdObject,
-                    groups = groups.toList()
+                    groups = groupRegistry.resolve(groups.toList())
                 )
             }
         }
@@ -390,6 +672,98 @@ class DataClassValidator(
         )
     }
 
+    /**
+     * Returns the statistics of the data class descriptor cache, which is shared with the other validators of a
+     * [ValidationMetadataRegistry].
+     *
+     * @see [Builder.withDescriptorCache]
+     */
+    fun descriptorCacheStats(): DescriptorCacheStats = descriptorFactory.stats()
+
+    /**
+     * Estimates the heap retained by the metadata of this validator: the cached descriptors, executable descriptors
+     * and validation plans per data class, the interned constraint descriptors, the initialized constraint
+     * validators and the results of the memoized helper functions. Object sizes are measured when the
+     * [FootprintAgent] is installed and estimated from the fields of each object otherwise. Cached validation
+     * results are not included, see [resultCacheStats].
+     *
+     * @note walks the whole metadata of the validator, thus meant for sizing caches and not for frequent calls.
+     * @see [Builder.withDescriptorCache]
+     */
+    fun footprint(): FootprintReport {
+        val estimator = FootprintEstimator(
+            instrumentation = FootprintAgent.instrumentation,
+            boundaries = listOfNotNull(
+                this,
+                resultCache,
+                metadata,
+                validatorFactory,
+                validatorFactory.constraintHelper,
+                validatorFactory.constraintValidatorFactory,
+                validatorFactory.validatorFactoryScopedContext,
+                validatorFactory.constraintCreationContext,
+                descriptorFactory,
+                constraintDescriptorFactory,
+                constraintViolationHelper,
+                constraintValidatorContextFactory,
+                groupRegistry
+            )
+        )
+        val interned = constraintDescriptorFactory.interned()
+        val constraintDescriptorsSize = estimator.sizeOf(interned)
+        val initializedValidatorsSize = estimator.sizeOf(
+            initializedConstraintValidatorsCache.asMap().entries.flatMap { listOf(it.key, it.value) } +
+                    constraintValidatorManager
+        )
+        // a validation plan is kept by its descriptor, thus every plan belongs to a cached descriptor
+        val classes = descriptorFactory.cachedDescriptors().map { (clazz, descriptor) ->
+            val executables = (descriptor as? LazyBeanDescriptor)?.executablesDescriptorOrNull
+            val plan = (descriptor as? LazyBeanDescriptor)?.plan
+            FootprintReport.ClassFootprint(
+                clazz = clazz,
+                descriptorSize = estimator.sizeOf(listOf(descriptor), excluded = listOfNotNull(executables, plan)),
+                executableSize = estimator.sizeOf(listOf(executables)),
+                planSize = estimator.sizeOf(listOf(plan)),
+                isPinned = descriptorFactory.isPinned(clazz)
+            )
+        }
+        val memoizedSize = estimator.sizeOf(
+            listOf(
+                findConstraintValidators,
+                isConstraintAnnotation,
+                getExecutableMetaData,
+                getDefaultGroupSequence,
+                isResultCacheable
+            ) + metadata.memoized()
+        )
+        return FootprintReport(
+            classes = classes.sortedByDescending { it.size },
+            constraintDescriptorsSize = constraintDescriptorsSize,
+            constraintDescriptorCount = interned.count { it is ConstraintDescriptor<*> }.toLong(),
+            initializedValidatorsSize = initializedValidatorsSize,
+            memoizedSize = memoizedSize,
+            isInstrumented = estimator.isInstrumented,
+            isSharedMetadata = isSharedMetadata
+        )
+    }
+
+    /**
+     * Returns the statistics of the validation result cache.
+     *
+     * @return the [ResultCacheStats] or null if the result cache is not enabled.
+     * @see [Builder.withResultCache]
+     */
+    fun resultCacheStats(): ResultCacheStats? =
+        resultCache?.let { cache ->
+            val stats = cache.stats()
+            ResultCacheStats(
+                hitCount = stats.hitCount(),
+                missCount = stats.missCount(),
+                evictionCount = stats.evictionCount(),
+                estimatedSize = cache.estimatedSize()
+            )
+        }
+
     /**
      * Checks whether the specified [[Annotation]] is a valid constraint. A constraint has to fulfill the
      * following conditions:
@@ -422,6 +796,76 @@ class DataClassValidator(
     private fun isConstraintAnnotationClazz(clazz: Class<out Annotation>): Boolean =
         validatorFactory.constraintHelper.isConstraintAnnotation(clazz)
 
+    /**
+     * Returns whether the given object satisfies all of its constraints. Evaluation stops at the first
+     * constraint which reports a violation, regardless of [Builder.withFailFast].
+     *
+     * @param obj    the object to validate.
+     * @param groups the list of groups targeted for validation (defaults to Default).
+     *
+     * @return true if there are no constraint violations, false otherwise, including when the validation
+     *         exceeds the configured [Builder.withLimits].
+     */
+    fun isValid(
+        obj: Any,
+        vararg groups: Class<*>
+    ): Boolean = when (val result = validateRootResult(obj, groups, isFailFast = true)) {
+        is ValidationResult.Complete -> result.violations.isEmpty()
+        is ValidationResult.Truncated, is ValidationResult.TimedOut -> false
+    }
+
+    /**
+     * Validates all constraints on the given object like [validate], but returns a [ValidationResult.Truncated]
+     * instead of throwing a [ValidationLimitExceededException] when the validation exceeds the configured
+     * [Builder.withLimits].
+     *
+     * @param obj    the object to validate.
+     * @param groups the list of groups targeted for validation (defaults to Default).
+     *
+     * @return the [ValidationResult] holding the constraint violations.
+     * @note the validation result cache is not used.
+     */
+    fun <T : Any> validateAll(
+        obj: T,
+        vararg groups: Class<*>
+    ): ValidationResult<T> = validateRootResult(obj, groups)
+
+    /**
+     * Validates all constraints on the given object like [validateAll], stopping cooperatively when the given
+     * [CancellationToken] is cancelled or its deadline passes. The token is checked between the validation of
+     * properties, of cascaded collection elements and of `@PostConstructValidation` methods.
+     *
+     * @param obj               the object to validate.
+     * @param cancellationToken the [CancellationToken] of the validation call.
+     * @param groups            the list of groups targeted for validation (defaults to Default).
+     *
+     * @return the [ValidationResult] holding the constraint violations, a [ValidationResult.TimedOut] holding
+     *         the violations found up to that point when the token is cancelled.
+     * @note the validation result cache is not used.
+     */
+    fun <T : Any> validateAll(
+        obj: T,
+        cancellationToken: CancellationToken,
+        vararg groups: Class<*>
+    ): ValidationResult<T> = validateRootResult(obj, groups, cancellationToken = cancellationToken)
+
+    /**
+     * Validates all constraints on the given object like [validate], stopping cooperatively when the given
+     * [CancellationToken] is cancelled or its deadline passes.
+     *
+     * @param obj               the object to validate.
+     * @param cancellationToken the [CancellationToken] of the validation call.
+     * @param groups            the list of groups targeted for validation (defaults to Default).
+     *
+     * @return constraint violations or an empty set if none
+     * @throws ValidationTimeoutException - if the token is cancelled before the validation completes.
+     */
+    fun <T : Any> validate(
+        obj: T,
+        cancellationToken: CancellationToken,
+        vararg groups: Class<*>
+    ): Set<ConstraintViolation<T>> = validateRoot(obj, groups, cancellationToken = cancellationToken)
+
     /**
      * Validates all constraint constraints on an object.
      *
@@ -470,7 +914,7 @@ class DataClassValidator(
         val annotations = constraints.map { (constraintAnnotationType, attributes) ->
             AnnotationFactory.create(AnnotationDescriptor.Builder(constraintAnnotationType, attributes).build())
         }
-        return validateFieldValue(fieldName, annotations, value, groups.toList())
+        return validateFieldValue(fieldName, annotations, value, groupRegistry.resolve(groups.toList()))
     }
 
     /**
@@ -483,14 +927,14 @@ class DataClassValidator(
         obj: T,
         vararg groups: Class<*>
     ): Set<ConstraintViolation<T>> {
-        val methods = obj::class.java.declaredMethods
+        val postConstructValidations = getDataClassPlan(getConstraintsForClass(obj::class.java)).postConstructValidations
         val results = mutableSetOf<ConstraintViolation<T>>()
-        methods.forEach { method ->
+        postConstructValidations.forEach { postConstructValidation ->
             results.addAll(
                 validatePostConstructValidationMethod(
                     obj = obj,
-                    method = method,
-                    groups = groups
+                    postConstructValidation = postConstructValidation,
+                    groups = groupRegistry.resolve(groups.toList())
                 )
             )
         }
@@ -510,43 +954,134 @@ class DataClassValidator(
         method: Method,
         vararg groups: Class<*>
     ): Set<ConstraintViolation<T>> {
-        val results = mutableSetOf<ConstraintViolation<T>>()
         // Note: we could do descriptorFactory#describeMethod here, but we want to ensure the PostConstructValidation
         // is an actual method on the given obj instance.
-        val descriptor = getConstraintsForClass(obj::class.java)
-        when (val methodDescriptor = descriptor.getConstraintsForMethod(method.name, *method.parameterTypes)) {
-            null -> Unit
-            else -> {
-                val returnValueDescriptor =  methodDescriptor.returnValueDescriptor
-                // if the method has an @PostConstructValidation annotation, run the validation
-                val constraintDescriptor: ConstraintDescriptorImpl<PostConstructValidation>? =
-                   if (returnValueDescriptor != null) {
-                           returnValueDescriptor
-                               .constraintDescriptors
-                                .find { it.annotation.eq<PostConstructValidation>() } as? ConstraintDescriptorImpl<PostConstructValidation>
-                       } else null
-
-                constraintDescriptor.whenNotNull { notNullConstraintDescriptor ->
-                    val methodPath = PathImpl.createPathForExecutable(getExecutableMetaData(method))
-                    results.addAll(
-                        executePostConstructValidations(
-                            context = ValidationContext(
-                                fieldName = method.name,
-                                rootClazz = obj::class.java,
-                                root = obj,
-                                leaf = obj,
-                                path = methodPath
-                            ),
-                            method = method,
-                            constraintDescriptor = notNullConstraintDescriptor,
-                            clazzInstance = obj,
-                            groups = groups.toList()
-                        )
+        val postConstructValidation = getDataClassPlan(getConstraintsForClass(obj::class.java))
+            .postConstructValidations
+            .find { it.method == method }
+        return when (postConstructValidation) {
+            null -> emptySet()
+            else ->
+                validatePostConstructValidationMethod(
+                    obj = obj,
+                    postConstructValidation = postConstructValidation,
+                    groups = groupRegistry.resolve(groups.toList())
+                )
+        }
+    }
+
+    /**
+     * Validates `current`, a changed copy of `previous`, re-using the violations which were returned from
+     * validating `previous` with the same groups. Only the constraints of properties whose values changed
+     * (by identity or equality), and any cascaded validation under them, are evaluated again. The violations
+     * of unchanged properties are carried over with `current` as their root bean.
+     *
+     * Class-level constraints are always evaluated, as are @PostConstructValidation methods which do not
+     * specify `fields` or which specify a field whose value changed.
+     *
+     * With [Builder.withFailFast], evaluation stops at the first changed property, @PostConstructValidation method
+     * or class-level constraint which reports a violation, and otherwise at most one violation is carried over.
+     *
+     * @param previous           the previously validated data class instance.
+     * @param current            the data class instance to validate.
+     * @param previousViolations the set of violations returned from validating `previous` with the given groups.
+     * @param groups             the list of groups targeted for validation (defaults to Default).
+     *
+     * @return constraint violations or an empty set if none
+     * @note when the groups resolve to a group sequence, `current` is validated in full.
+     * @note the leaf bean of a carried over violation of a cascaded property may be an instance equal to,
+     *       but not the same as, the corresponding instance reachable from `current`.
+     *
+     * @throws IllegalArgumentException - if `previous` and `current` are not instances of the same class.
+     * @throws ValidationLimitExceededException - if the validation exceeds the configured [Builder.withLimits].
+     */
+    fun <T : Any> validateChanged(
+        previous: T,
+        current: T,
+        previousViolations: Set<ConstraintViolation<T>>,
+        vararg groups: Class<*>
+    ): Set<ConstraintViolation<T>> {
+        val clazz = current.javaClass
+        if (previous.javaClass != clazz) throw IllegalArgumentException(
+            "${previous.javaClass} and $clazz are not the same class."
+        )
+        if (!KotlinMetadata.isDataClass(clazz)) throw ValidationException("$clazz is not a valid data class.")
+
+        val groupsList = groups.toList()
+        // violations of a group sequence depend on the violations of its previous groups, validate in full
+        if (GroupSequences.isSequenced(groupsList, getDefaultGroupSequence(clazz))) return validate(current, *groups)
+        val requestedGroups = groupRegistry.resolve(groupsList)
+        val descriptor = getConstraintsForClass(clazz)
+        val plan = getDataClassPlan(descriptor)
+        val rootPath = PathImpl.createRootPath()
+        val session = ValidationSession()
+        session.start(current, rootPath)
+        val budget = newValidationBudget()
+        val context = ValidationContext(
+            null, clazz, current, current, rootPath, isFailFast = failFast, session = session, budget = budget
+        )
+        // names of the properties and methods whose previous violations are carried over
+        val unchanged = mutableSetOf<String>()
+        val results = mutableListOf<ConstraintViolation<T>>()
+
+        val properties = plan.properties
+        var index = 0
+        while (index < properties.size && !(failFast && results.isNotEmpty())) {
+            val propertyPlan = properties[index]
+            val propertyDescriptor = propertyPlan.descriptor
+            val currentValue = propertyPlan.getValue(current)
+            val previousValue = propertyPlan.getValue(previous)
+            if (currentValue === previousValue || currentValue == previousValue) {
+                unchanged.add(propertyDescriptor.propertyName)
+            } else if (!isValidPrimitiveProperty(propertyPlan, current, requestedGroups)) {
+                val propertyPath = PathImpl.createCopy(context.path)
+                propertyPath.addPropertyNode(propertyDescriptor.propertyName)
+                results.addAll(
+                    validateField(
+                        context = context.copy(fieldName = propertyDescriptor.propertyName, path = propertyPath),
+                        propertyDescriptor = propertyDescriptor,
+                        fieldValue = currentValue,
+                        groups = requestedGroups,
+                        constraints = propertyPlan.constraints,
+                        constraintGroupsMasks = propertyPlan.constraintGroupsMasks
                     )
-                }
+                )
             }
+            index += 1
+        }
+
+        val postConstructValidations = plan.postConstructValidations
+        index = 0
+        while (index < postConstructValidations.size && !(failFast && results.isNotEmpty())) {
+            val postConstructValidation = postConstructValidations[index]
+            if (isChanged(postConstructValidation, previous, current)) {
+                results.addAll(
+                    executePostConstructValidations(
+                        context = context.copy(fieldName = postConstructValidation.method.name),
+                        postConstructValidation = postConstructValidation,
+                        clazzInstance = current,
+                        groups = requestedGroups
+                    )
+                )
+            } else unchanged.add(postConstructValidation.method.name)
+            index += 1
         }
 
+        if (!(failFast && results.isNotEmpty())) {
+            results.addAll(validateClazz(context, plan, current, requestedGroups))
+        }
+
+        val iterator = previousViolations.iterator()
+        while (iterator.hasNext() && !(failFast && results.isNotEmpty())) {
+            val violation = iterator.next()
+            val name = getRootPropertyName(violation)
+            if (name != null && unchanged.contains(name)) {
+                results.add(constraintViolationHelper.newReRootedConstraintViolation(violation, current))
+            }
+        }
+
+        val exceeded = budget?.exceeded
+        if (exceeded != null) throw ValidationLimitExceededException(exceeded, truncate(results.toSet()))
         return results.toSet()
     }
 
@@ -569,7 +1104,7 @@ class DataClassValidator(
                 executableDescriptor = constructorDescriptor,
                 fieldNames = fieldNames,
                 parameterValues = parameterValues,
-                groups = groups.toList()
+                groups = groupRegistry.resolve(groups.toList())
             )
         } else emptySet()
     }
@@ -593,7 +1128,7 @@ class DataClassValidator(
                 executableDescriptor = methodDescriptor,
                 fieldNames = fieldNames,
                 parameterValues = parameterValues,
-                groups = groups.toList()
+                groups = groupRegistry.resolve(groups.toList())
             )
         } else emptySet()
     }
@@ -609,60 +1144,79 @@ class DataClassValidator(
         context: ValidationContext<T>,
         propertyDescriptor: PropertyDescriptor?,
         fieldValue: Any?,
-        groups: List<Class<*>>,
+        groups: Groups,
+        constraints: Array<ConstraintDescriptorImpl<Annotation>> =
+            propertyDescriptor?.constraintDescriptors?.map { it as ConstraintDescriptorImpl<Annotation> }?.toTypedArray()
+                ?: emptyArray(),
+        constraintGroupsMasks: LongArray = LongArray(constraints.size) { groupRegistry.maskOf(constraints[it].groups) }
     ): Set<ConstraintViolation<T>> {
         return if (propertyDescriptor != null) {
             val results = mutableListOf<ConstraintViolation<T>>()
-
-            val constraintDescriptors = propertyDescriptor.constraintDescriptors
-            val iterator = constraintDescriptors.iterator()
-            while (iterator.hasNext()) {
-                val constraintDescriptor = iterator.next()
-
-                results.addAll(
-                    isValid(
-                        context = context,
-                        constraintDescriptor = constraintDescriptor as ConstraintDescriptorImpl<Annotation>,
-                        clazz = propertyDescriptor.elementClass as Class<T>,
-                        value = fieldValue,
-                        groups = groups
-                    )
-                )
-            }
+            val isCascadable = validateFieldConstraints(
+                context, propertyDescriptor, fieldValue, groups, constraints, constraintGroupsMasks, results
+            )
 
             // Cannot cascade a null value
-            if (fieldValue != null) {
-                if (propertyDescriptor.isCascaded) {
-                    results.addAll(
-                        if (propertyDescriptor.constrainedContainerElementTypes.isNotEmpty()) {
-                            // need to cascade the constrained container element type, multi type containers are not supported
-                            // thus we only read the first constrained container element type
-                            validateCascadedProperty(
-                                context = context,
-                                isCollection = true,
-                                clazz = propertyDescriptor.constrainedContainerElementTypes.first().elementClass,
-                                clazzInstance = fieldValue,
-                                groups = groups
-                            )
-                        } else {
-                            validateCascadedProperty(
-                                context = context,
-                                isCollection = false,
-                                clazz = propertyDescriptor.elementClass,
-                                clazzInstance = fieldValue,
-                                groups = groups
-                            )
-                        }
-                    )
-                }
+            if (fieldValue != null && propertyDescriptor.isCascaded && isCascadable) {
+                results.addAll(validateCascadedField(context, propertyDescriptor, fieldValue, groups))
             }
 
             results.toSet()
         } else emptySet()
     }
 
+    /**
+     * Validate the constraints of a field-level property, adding any violations to the given results.
+     *
+     * @return true if the value of the property may be cascaded into, with limits the elements of a collection
+     *         which violates its @Size are not visited.
+     */
+    private fun <T : Any> validateFieldConstraints(
+        context: ValidationContext<T>,
+        propertyDescriptor: PropertyDescriptor,
+        fieldValue: Any?,
+        groups: Groups,
+        constraints: Array<ConstraintDescriptorImpl<Annotation>>,
+        constraintGroupsMasks: LongArray,
+        results: MutableList<ConstraintViolation<T>>
+    ): Boolean {
+        val budget = context.budget
+        val size = results.size
+        var isSizeViolated = false
+
+        var index = 0
+        while (index < constraints.size) {
+            val constraintDescriptor = constraints[index]
+            val violations = isValid(
+                context = context,
+                constraintDescriptor = constraintDescriptor,
+                clazz = propertyDescriptor.elementClass as Class<T>,
+                value = fieldValue,
+                groups = groups,
+                constraintGroupsMask = constraintGroupsMasks[index]
+            )
+            if (violations.isNotEmpty()) {
+                results.addAll(violations)
+                if (constraintDescriptor.annotation is Size) isSizeViolated = true
+            }
+            index += 1
+        }
+        if (budget == null) return true
+        budget.record(results.size - size)
+        return !(isSizeViolated || budget.isStopped)
+    }
+
+    /** Validate the cascaded value of a field-level property */
+    private fun <T : Any> validateCascadedField(
+        context: ValidationContext<T>,
+        propertyDescriptor: PropertyDescriptor,
+        fieldValue: Any,
+        groups: Groups
+    ): Set<ConstraintViolation<T>> =
+        validateCascade(context = context, descriptor = propertyDescriptor, value = fieldValue, groups = groups)
+
     private fun validateFieldValue(
-        fieldName: String, constraints: List<Annotation>, value: Any, groups: List<Class<*>>
+        fieldName: String, constraints: List<Annotation>, value: Any, groups: Groups
     ): Set<ConstraintViolation<Any>> = if (constraints.isNotEmpty()) {
         val results = mutableListOf<ConstraintViolation<Any>>()
         var index = 0
@@ -689,7 +1243,7 @@ class DataClassValidator(
         constraint: Annotation,
         clazz: Class<out T>,
         value: Any?,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> =
         isValid(
             context = context,
@@ -710,9 +1264,10 @@ class DataClassValidator(
         constraintDescriptor: ConstraintDescriptorImpl<Annotation>,
         clazz: Class<*>,
         value: Any?,
-        groups: List<Class<*>>
+        groups: Groups,
+        constraintGroupsMask: Long = groupRegistry.maskOf(constraintDescriptor.groups)
     ): Set<ConstraintViolation<T>> {
-        return if (isValidationEnabled(value, constraintDescriptor, groups)) {
+        return if (isValidationEnabled(value, constraintDescriptor, constraintGroupsMask, groups)) {
             val constraintValidator: ConstraintValidator<Annotation, Any>? =
                 ConstraintValidatorFactoryHelper.findInitializedConstraintValidator(
                     validatorFactory = validatorFactory,
@@ -739,7 +1294,14 @@ class DataClassValidator(
                                 constraintDescriptor = constraintDescriptor
                             )
                     // compute if valid
-                    if (constraintValidator.isValid(value, constraintValidatorContext)) emptySet()
+                    val isValid = evaluate(
+                        constraintValidator = constraintValidator,
+                        constraintDescriptor = constraintDescriptor,
+                        context = context,
+                        value = value,
+                        constraintValidatorContext = constraintValidatorContext
+                    )
+                    if (isValid) emptySet()
                     else {
                         constraintViolationHelper.buildConstraintViolations(
                             rootClazz = context.rootClazz,
@@ -756,143 +1318,168 @@ class DataClassValidator(
         } else emptySet()
     }
 
-    /** Validate cascaded field-level properties */
-    private fun <T : Any> validateCascadedProperty(
+    /** Evaluate the given constraint validator, recorded as a [SlowConstraintEvent] when enabled. */
+    private fun <T : Any> evaluate(
+        constraintValidator: ConstraintValidator<Annotation, Any>,
+        constraintDescriptor: ConstraintDescriptorImpl<Annotation>,
         context: ValidationContext<T>,
-        isCollection: Boolean,
-        clazz: Class<*>,
-        clazzInstance: Any,
-        groups: List<Class<*>>
-    ): Set<ConstraintViolation<T>> {
-        val results = mutableListOf<ConstraintViolation<T>>()
-        if (clazz.kotlin.isData) { // only cascade into data classes; TODO("handle java records?")
-            val descriptor = descriptorFactory.describe(clazz = clazz)
-            val path = PathImpl.createCopy(context.path)
-            if (isCollection) {
-                val collectionValue: Iterable<*> = clazzInstance as Iterable<*>
-                val collectionValueIterator = collectionValue.iterator()
-                var index = 0
-                while (collectionValueIterator.hasNext()) {
-                    val instanceValue = collectionValueIterator.next()
-                    // apply the index to the parent path, then use this to recompute paths of members and methods
-                    val indexedPath = PathImpl.createCopyWithoutLeafNode(path)
-                    indexedPath.addPropertyNode("${path.leafNode.asString()}[${index}]")
-
-                    val violations = validateDescriptor(
-                        descriptor = descriptor,
-                        context = context.copy(path = indexedPath),
-                        value = instanceValue,
-                        groups = groups
+        value: Any?,
+        constraintValidatorContext: ConstraintValidatorContext
+    ): Boolean {
+        val event = SlowConstraintEvent()
+        if (!event.isEnabled) return constraintValidator.isValid(value, constraintValidatorContext)
+        event.begin()
+        val isValid = constraintValidator.isValid(value, constraintValidatorContext)
+        if (event.shouldCommit()) {
+            event.annotation = constraintDescriptor.annotationType
+            event.constraintValidator = constraintValidator.javaClass
+            event.path = context.path.toString()
+            event.valid = isValid
+            event.commit()
+        }
+        return isValid
+    }
+
+    /**
+     * @return the violations of an already visited instance moved to the path of the given context, or an empty
+     *         set if the instance is still being validated, i.e., for a cycle.
+     */
+    private fun <T : Any> relocateViolations(
+        visit: ValidationSession.Visit,
+        context: ValidationContext<T>
+    ): Set<ConstraintViolation<T>> =
+        when (val violations = visit.violations as Set<ConstraintViolation<T>>?) {
+            null -> emptySet() // cycle, the instance is being validated
+            else -> if (violations.isEmpty()) emptySet() else {
+                val results = mutableSetOf<ConstraintViolation<T>>()
+                val iterator = violations.iterator()
+                while (iterator.hasNext()) {
+                    results.add(
+                        constraintViolationHelper.newRelocatedConstraintViolation(
+                            iterator.next(),
+                            visit.path,
+                            context.path
+                        )
                     )
-                    if (violations.isNotEmpty()) results.addAll(violations)
-                    index += 1
                 }
-            } else {
-                results.addAll(
-                    validateDescriptor(
-                        descriptor = descriptor,
-                        context = context.copy(path = path),
-                        value = clazzInstance,
-                        groups = groups
-                    )
-                )
+                context.budget?.record(results.size)
+                results
             }
         }
 
-        return results.toSet()
-    }
-
-
-    /** Invoke method and validate result */
-    private fun <T : Any> executePostConstructValidations(
-        context: ValidationContext<T>,
-        method: Method,
-        methodDescriptor: MethodDescriptor,
-        clazzInstance: Any?,
-        groups: List<Class<*>>
+    private fun <T : Any> validatePostConstructValidationMethod(
+        obj: T,
+        postConstructValidation: DataClassPlan.PostConstructValidationPlan,
+        groups: Groups
     ): Set<ConstraintViolation<T>> {
-        val constraintDescriptor: ConstraintDescriptorImpl<PostConstructValidation> = methodDescriptor
-            .returnValueDescriptor
-            .constraintDescriptors.find { it.annotation.eq<PostConstructValidation>() } as? ConstraintDescriptorImpl<PostConstructValidation>
-            ?: throw ValidationException("Cannot find @${PostConstructValidation::class.simpleName} annotation on ${method.declaringClass::class.simpleName}#${method.name}()")
+        val method = postConstructValidation.method
+        val methodPath = PathImpl.createPathForExecutable(getExecutableMetaData(method))
         return executePostConstructValidations(
-            context = context,
-            method = method,
-            constraintDescriptor = constraintDescriptor,
-            clazzInstance = clazzInstance,
+            context = ValidationContext(
+                fieldName = method.name,
+                rootClazz = obj::class.java,
+                root = obj,
+                leaf = obj,
+                path = methodPath
+            ),
+            postConstructValidation = postConstructValidation,
+            clazzInstance = obj,
             groups = groups
         )
     }
 
+    /** Invoke method and validate result */
     private fun <T : Any> executePostConstructValidations(
         context: ValidationContext<T>,
-        method: Method,
-        constraintDescriptor: ConstraintDescriptorImpl<PostConstructValidation>,
+        postConstructValidation: DataClassPlan.PostConstructValidationPlan,
         clazzInstance: Any?,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> {
-        return if (groupsEnabled(constraintDescriptor, groups) && clazzInstance != null) {
-            try {
-                val postConstructValidationResult = method.invoke(clazzInstance) as PostConstructValidationResult
-                val pathWithMethodName = PathImpl.createCopy(context.path)
-                val path = if (context.path.leafNode.name == method.name) {
-                    // don't update the path, the leaf is already the method name.
-                    pathWithMethodName
-                } else {
-                    pathWithMethodName.addPropertyNode(method.name)
-                    pathWithMethodName
-                }
-
-                validatePostConstructValidation(
-                    context = context,
-                    clazzInstance = clazzInstance,
-                    path = path,
-                    constraintDescriptor,
-                    constraintDescriptor.annotation,
-                    postConstructValidationResult
-                )
-            } catch (e: InvocationTargetException) {
-                if (e.cause != null) throw e.cause!! else throw e
+        val constraintDescriptor = postConstructValidation.constraintDescriptor
+        return if (groups.isEnabled(constraintDescriptor.groups, postConstructValidation.groupsMask) &&
+            clazzInstance != null) {
+            val postConstructValidationResult =
+                invokePostConstructValidation(postConstructValidation, clazzInstance)
+            val methodName = postConstructValidation.method.name
+            val pathWithMethodName = PathImpl.createCopy(context.path)
+            val path = if (context.path.leafNode.name == methodName) {
+                // don't update the path, the leaf is already the method name.
+                pathWithMethodName
+            } else {
+                pathWithMethodName.addPropertyNode(methodName)
+                pathWithMethodName
             }
+
+            validatePostConstructValidation(
+                context = context,
+                clazzInstance = clazzInstance,
+                path = path,
+                postConstructValidation = postConstructValidation,
+                returnValue = postConstructValidationResult
+            ).also { violations -> context.budget?.record(violations.size) }
         } else emptySet()
     }
 
+    /** Invoke the given `@PostConstructValidation` method, recorded as a [PostConstructValidationEvent] when enabled. */
+    private fun invokePostConstructValidation(
+        postConstructValidation: DataClassPlan.PostConstructValidationPlan,
+        clazzInstance: Any
+    ): PostConstructValidationResult {
+        val event = PostConstructValidationEvent()
+        if (!event.isEnabled) return postConstructValidation.invoke(clazzInstance)
+        event.begin()
+        val postConstructValidationResult = postConstructValidation.invoke(clazzInstance)
+        if (event.shouldCommit()) {
+            event.dataClass = clazzInstance.javaClass
+            event.method = postConstructValidation.method.name
+            event.valid = postConstructValidationResult.isValid()
+            event.commit()
+        }
+        return postConstructValidationResult
+    }
+
     private fun <T : Any> validateClazz(
         context: ValidationContext<T>,
-        descriptor: BeanDescriptor,
+        plan: DataClassPlan,
         clazzInstance: Any?,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> {
-        val constraintDescriptors: List<ConstraintDescriptor<*>> = descriptor.constraintDescriptors.toList()
-        return if (constraintDescriptors.isNotEmpty()) {
+        val constraints = plan.constraints
+        return if (constraints.isNotEmpty()) {
             val results = mutableListOf<ConstraintViolation<T>>()
             var index = 0
-            val length = constraintDescriptors.size
+            val length = constraints.size
             while (index < length) {
                 results.addAll(
                     isValid(
                         context = context,
-                        constraintDescriptor = (constraintDescriptors[index] as ConstraintDescriptorImpl<Annotation>),
-                        clazz = descriptor.elementClass as Class<out T>,
+                        constraintDescriptor = constraints[index],
+                        clazz = plan.descriptor.elementClass as Class<out T>,
                         value = clazzInstance,
-                        groups = groups
+                        groups = groups,
+                        constraintGroupsMask = plan.constraintGroupsMasks[index]
                     )
                 )
                 index += 1
             }
+            context.budget?.record(results.size)
             results.toSet()
         } else emptySet()
     }
 
-    private tailrec fun <T : Any> validateDescriptor(
+    private fun <T : Any> validateDescriptor(
         descriptor: ElementDescriptor?,
         context: ValidationContext<T>,
         value: Any?,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> = when (descriptor) {
         null -> {
             val clazz: Class<T> = value?.javaClass as Class<T>
-            if (!value::class.isData) throw ValidationException("$clazz is not a valid data class.")
+            if (!KotlinMetadata.isDataClass(clazz)) throw ValidationException("$clazz is not a valid data class.")
+            val path = PathImpl.createRootPath()
+            // the root is never completed in the session, references back to the root are cycles
+            val session = context.session ?: ValidationSession()
+            session.start(value, path)
             validateDescriptor(
                 descriptor = descriptorFactory.describe(clazz),
                 context = ValidationContext(
@@ -900,7 +1487,10 @@ class DataClassValidator(
                     rootClazz = clazz,
                     root = value as T,
                     leaf = value,
-                    path = PathImpl.createRootPath()
+                    path = path,
+                    isFailFast = context.isFailFast,
+                    session = session,
+                    budget = context.budget
                 ),
                 value = value,
                 groups = groups
@@ -910,7 +1500,7 @@ class DataClassValidator(
         is PropertyDescriptor -> {
             val propertyPath = PathImpl.createCopy(context.path)
             context.fieldName?.let { propertyPath.addPropertyNode(it) }
-            // validateField will recurse back through validate for cascaded properties
+            // cascaded properties are validated on the CascadeStack, see validateCascade
             validateField(
                 context.copy(path = propertyPath),
                 descriptor,
@@ -919,71 +1509,355 @@ class DataClassValidator(
             )
         }
 
-        is BeanDescriptor -> {
-            val propertyViolationResults = mutableListOf<ConstraintViolation<T>>()
-            if (descriptor.constrainedProperties.isNotEmpty()) {
-                val iterator = descriptor.constrainedProperties.iterator()
-                while (iterator.hasNext()) {
-                    val propertyDescriptor = iterator.next()
-                    val propertyPath = PathImpl.createCopy(context.path)
-                    propertyPath.addPropertyNode(propertyDescriptor.propertyName)
-                    // validateField will recurse back through validate here for cascaded properties
-                    val fieldResults =
-                        validateField(
-                            context = context.copy(
-                                fieldName = propertyDescriptor.propertyName,
-                                path = propertyPath
-                            ),
-                            propertyDescriptor = propertyDescriptor,
-                            fieldValue = findFieldValue(
-                                value,
-                                descriptor.elementClass,
-                                propertyDescriptor.propertyName
-                            ),
-                            groups = groups
-                        )
-                    if (fieldResults.isNotEmpty()) propertyViolationResults.addAll(fieldResults)
+        is BeanDescriptor ->
+            validateBean(context, getDataClassPlan(descriptor), value, groups)
+
+        else ->
+            throw ValidationException("Invalid descriptor type: ${descriptor::class.java.name}")
+    }
+
+    /**
+     * Validates a data class instance and every instance cascaded into from it, iteratively on the [CascadeStack]
+     * of the current thread with a [CascadeFrame] per instance, rather than by recursion. Violations are reported
+     * in the order of a depth-first traversal: per instance, the violations of each property followed by those of
+     * its cascaded value, then of the `@PostConstructValidation` methods and then of the class-level constraints.
+     * A fail-fast context instead evaluates the [ConstraintNode]s of each instance in their fail-fast order, see
+     * [validateNextConstraintNode].
+     */
+    private fun <T : Any> validateBean(
+        context: ValidationContext<T>,
+        plan: DataClassPlan,
+        value: Any?,
+        groups: Groups
+    ): Set<ConstraintViolation<T>> {
+        val stack = CascadeStack.local()
+        val base = stack.size
+        try {
+            // the default group sequence of the root class is applied by validateGroups
+            stack.push().set(context, plan, value, null, groups, null)
+            return validateFrames(stack, base)
+        } finally {
+            stack.popTo(base)
+        }
+    }
+
+    /**
+     * Validates the cascade into the value of a property or parameter which is validated on its own, i.e., not as
+     * part of validating its data class, on the [CascadeStack] of the current thread.
+     */
+    private fun <T : Any, D> validateCascade(
+        context: ValidationContext<T>,
+        descriptor: D,
+        value: Any,
+        groups: Groups
+    ): Set<ConstraintViolation<T>> where D : ElementDescriptor, D : ContainerDescriptor {
+        val stack = CascadeStack.local()
+        val base = stack.size
+        try {
+            val frame = stack.push()
+            frame.set(context, null, value, null, groups, null)
+            return if (startCascade(frame, context, descriptor, value)) validateFrames(stack, base)
+            else emptySet()
+        } finally {
+            stack.popTo(base)
+        }
+    }
+
+    /**
+     * Validates the frames on the stack above the given base until the frame at the base completes.
+     *
+     * @return the violations of the frame at the base.
+     */
+    private fun <T : Any> validateFrames(stack: CascadeStack, base: Int): Set<ConstraintViolation<T>> {
+        var results: Set<ConstraintViolation<T>> = emptySet()
+        while (stack.size > base) {
+            val frame = stack.peek()
+            val hasNext = when {
+                frame.isCascading -> {
+                    pushCascadedInstance<T>(stack, frame)
+                    true
                 }
+                frame.plan == null -> false // only cascaded into its value, which has ended
+                frame.constraintNodes != null -> validateNextConstraintNode<T>(frame)
+                else -> validateNextProperty<T>(frame)
             }
+            if (!hasNext) {
+                // a fail-fast frame only holds the violations of its failed node
+                if (frame.plan != null && frame.constraintNodes == null) completeBean<T>(frame)
+                if (frame.nextGroupStep()) continue
+
+                val violations = frame.results as List<ConstraintViolation<T>>
+                val frameResults = if (violations.isEmpty()) emptySet() else LinkedHashSet(violations)
+                frame.visit?.violations = frameResults
+                stack.pop()
+                if (stack.size > base) stack.peek().addCascaded(frameResults)
+                else results = frameResults
+            }
+        }
+        return results
+    }
 
-            val postConstructViolationsResults = mutableListOf<ConstraintViolation<T>>()
-            val methodDescriptors = descriptor.getConstrainedMethods(MethodType.NON_GETTER)
-            if (methodDescriptors.isNotEmpty()) {
-                val iterator = methodDescriptors.iterator()
-                while (iterator.hasNext()) {
-                    val methodDescriptor = iterator.next()
-                    if (isPostConstructValidationConstrainedMethod(methodDescriptor, value)) {
-                        val method = descriptor.elementClass.getMethod(
-                            /* name                 = */
-                            methodDescriptor.name,
-                            /* ...parameterTypes    = */
-                            *methodDescriptor.parameterDescriptors.map { it.elementClass }.toTypedArray()
-                        )
+    /**
+     * Starts the cascade of the frame into the given value of a cascaded property or parameter, or into its elements
+     * for a container. Only data classes are cascaded into.
+     *
+     * @return true if the cascade was started.
+     */
+    private fun <D> startCascade(
+        frame: CascadeFrame,
+        context: ValidationContext<*>,
+        descriptor: D,
+        value: Any
+    ): Boolean where D : ElementDescriptor, D : ContainerDescriptor {
+        // need to cascade the constrained container element type, multi type containers are not supported
+        // thus we only read the first constrained container element type
+        val isCollection = descriptor.constrainedContainerElementTypes.isNotEmpty()
+        val clazz =
+            if (isCollection) descriptor.constrainedContainerElementTypes.first().elementClass
+            else descriptor.elementClass
+        if (!KotlinMetadata.isDataClass(clazz)) return false
+        frame.startCascade(
+            context = context,
+            descriptor = descriptorFactory.describe(clazz = clazz),
+            groupSteps = getDefaultGroupSteps(clazz, frame.cascadeGroups!!),
+            iterator = if (isCollection) (value as Iterable<*>).iterator() else null,
+            value = value
+        )
+        return true
+    }
 
-                        val methodResults =
-                            executePostConstructValidations(
-                                context = context.copy(
-                                    fieldName = methodDescriptor.name
-                                ),
-                                method = method,
-                                methodDescriptor = methodDescriptor,
-                                clazzInstance = value,
-                                groups = groups
-                            )
+    /**
+     * @return the groups of each step of the redefined default group sequence of a cascaded data class when the
+     *         [Default] group is requested, otherwise null. Any other requested groups are validated in the first
+     *         step.
+     */
+    private fun getDefaultGroupSteps(clazz: Class<*>, groups: Groups): List<Groups>? {
+        val defaultGroupSequence = getDefaultGroupSequence(clazz)
+        if (defaultGroupSequence == null || !GroupSequences.isSequenced(groups.classes, defaultGroupSequence)) {
+            return null
+        }
+        val steps = GroupSequences.resolve(clazz, listOf(Default::class.java), defaultGroupSequence).single()
+        val others = groups.classes.filter { it != Default::class.java }
+        return List(steps.size) { index ->
+            groupRegistry.resolve(if (index == 0) others + steps[index] else steps[index])
+        }
+    }
 
-                        if (methodResults.isNotEmpty()) postConstructViolationsResults.addAll(methodResults)
+    /**
+     * Validates the property of the frame at its [CascadeFrame.propertyIndex] and starts the cascade into its
+     * value, if any.
+     *
+     * @return false if the frame has no more properties to validate.
+     */
+    private fun <T : Any> validateNextProperty(frame: CascadeFrame): Boolean {
+        val context = frame.context as ValidationContext<T>
+        val groups = frame.groups!!
+        val properties = frame.plan!!.properties
+        val budget = context.budget
+        if (frame.propertyIndex >= properties.size || (budget != null && budget.isStopped)) return false
+
+        val propertyPlan = properties[frame.propertyIndex]
+        // primitive properties which definitely pass their numeric constraints are not boxed
+        if (!isValidPrimitiveProperty(propertyPlan, frame.value, groups)) {
+            val propertyDescriptor = propertyPlan.descriptor
+            val propertyPath = PathImpl.createCopy(context.path)
+            propertyPath.addPropertyNode(propertyDescriptor.propertyName)
+            val propertyContext = context.copy(fieldName = propertyDescriptor.propertyName, path = propertyPath)
+            val fieldValue = propertyPlan.getValue(frame.value)
+            val isCascadable = validateFieldConstraints(
+                context = propertyContext,
+                propertyDescriptor = propertyDescriptor,
+                fieldValue = fieldValue,
+                groups = groups,
+                constraints = propertyPlan.constraints,
+                constraintGroupsMasks = propertyPlan.constraintGroupsMasks,
+                results = frame.results as MutableList<ConstraintViolation<T>>
+            )
+            // Cannot cascade a null value, the property index is advanced once a started cascade ends
+            if (fieldValue != null && propertyDescriptor.isCascaded && isCascadable && frame.isCascadable &&
+                startCascade(frame, propertyContext, propertyDescriptor, fieldValue)
+            ) return true
+        }
+        frame.propertyIndex += 1
+        return true
+    }
+
+    /**
+     * Pushes a frame for the next instance of the cascade of the given frame, or ends the cascade when there are no
+     * more instances or, when failing fast, the cascade has a violation.
+     *
+     * An instance is validated at most once per validation call. An instance which is reached again while it is
+     * being validated is a cycle in the object graph and is not validated again, an instance which was already
+     * validated through another path reports its previous violations moved to the current path.
+     */
+    private fun <T : Any> pushCascadedInstance(stack: CascadeStack, frame: CascadeFrame) {
+        val cascadeContext = frame.cascadeContext as ValidationContext<T>
+        val budget = cascadeContext.budget
+        val iterator = frame.cascadeIterator
+        val hasNext =
+            if (cascadeContext.isFailFast && frame.results.isNotEmpty()) false
+            else if (iterator == null) frame.cascadeIndex == 0
+            else iterator.hasNext() && (budget == null || budget.element(frame.cascadeIndex))
+        if (!hasNext) {
+            frame.endCascade()
+            val constraintNodes = frame.constraintNodes
+            if (constraintNodes == null) frame.propertyIndex += 1
+            else {
+                constraintNodes[frame.constraintNodeIndex]
+                    .record(System.nanoTime() - frame.constraintNodeStart, frame.results.isNotEmpty())
+                frame.constraintNodeIndex += 1
+            }
+            return
+        }
+
+        val instance: Any?
+        val path: PathImpl
+        if (iterator == null) {
+            instance = frame.cascadeValue
+            path = PathImpl.createCopy(cascadeContext.path)
+        } else {
+            instance = iterator.next()
+            // apply the index to the parent path, then use this to recompute paths of members and methods
+            path = PathImpl.createCopyWithoutLeafNode(cascadeContext.path)
+            path.addPropertyNode("${cascadeContext.path.leafNode.asString()}[${frame.cascadeIndex}]")
+        }
+        frame.cascadeIndex += 1
+
+        val context = cascadeContext.copy(path = path, depth = cascadeContext.depth + 1)
+        val session = context.session
+        val visit = if (session == null || instance == null) null else session.get(instance)
+        if (visit != null) {
+            frame.addCascaded(relocateViolations(visit, context))
+        } else if (budget == null || budget.visit(context.depth)) {
+            val plan = getDataClassPlan(frame.cascadeDescriptor!!)
+            val started = if (session == null || instance == null) null else session.start(instance, context.path)
+            stack.push().set(context, plan, instance, started, frame.cascadeGroups!!, frame.cascadeGroupSteps)
+        }
+    }
+
+    /** Validates the `@PostConstructValidation` methods and class-level constraints of the frame. */
+    private fun <T : Any> completeBean(frame: CascadeFrame) {
+        val context = frame.context as ValidationContext<T>
+        val groups = frame.groups!!
+        val plan = frame.plan!!
+        val value = frame.value
+        val results = frame.results as MutableList<ConstraintViolation<T>>
+        val budget = context.budget
+        if (value != null) {
+            val postConstructValidations = plan.postConstructValidations
+            var index = 0
+            while (index < postConstructValidations.size && (budget == null || !budget.isStopped)) {
+                val postConstructValidation = postConstructValidations[index]
+                results.addAll(
+                    executePostConstructValidations(
+                        context = context.copy(fieldName = postConstructValidation.method.name),
+                        postConstructValidation = postConstructValidation,
+                        clazzInstance = value,
+                        groups = groups
+                    )
+                )
+                index += 1
+            }
+        }
+        results.addAll(validateClazz(context, plan, value, groups))
+    }
+
+    /**
+     * Evaluates the [ConstraintNode] of the frame at its [CascadeFrame.constraintNodeIndex], in the fail-fast order
+     * of the data class, and starts the cascade of a [ConstraintNode.Kind.CASCADE] node. The frame completes with the
+     * violations of the first node which reports any. The evaluation time and result of every evaluated node is
+     * recorded to update the order.
+     *
+     * @return false if the frame has violations or no more nodes to evaluate.
+     */
+    private fun <T : Any> validateNextConstraintNode(frame: CascadeFrame): Boolean {
+        val context = frame.context as ValidationContext<T>
+        val groups = frame.groups!!
+        val constraintNodes = frame.constraintNodes!!
+        val budget = context.budget
+        if (frame.results.isNotEmpty() ||
+            frame.constraintNodeIndex >= constraintNodes.size ||
+            (budget != null && budget.isStopped)
+        ) return false
+
+        val constraintNode = constraintNodes[frame.constraintNodeIndex]
+        // cascades are only validated in the first step of a redefined default group sequence
+        val isSkipped = constraintNode.kind == ConstraintNode.Kind.CASCADE && !frame.isCascadable
+        if (!isSkipped && constraintNode.isEnabled(groups)) {
+            val start = System.nanoTime()
+            if (constraintNode.kind == ConstraintNode.Kind.CASCADE) {
+                val propertyPlan = constraintNode.property!!
+                val propertyDescriptor = propertyPlan.descriptor
+                val fieldValue = propertyPlan.getValue(frame.value)
+                // Cannot cascade a null value, the node is recorded once a started cascade ends
+                if (fieldValue != null) {
+                    val propertyPath = PathImpl.createCopy(context.path)
+                    propertyPath.addPropertyNode(propertyDescriptor.propertyName)
+                    val propertyContext =
+                        context.copy(fieldName = propertyDescriptor.propertyName, path = propertyPath)
+                    if (startCascade(frame, propertyContext, propertyDescriptor, fieldValue)) {
+                        frame.constraintNodeStart = start
+                        return true
                     }
                 }
+            } else {
+                frame.results.addAll(validateConstraintNode(context, frame.plan!!, constraintNode, frame.value, groups))
             }
+            constraintNode.record(System.nanoTime() - start, frame.results.isNotEmpty())
+        }
+        frame.constraintNodeIndex += 1
+        return true
+    }
 
-            val clazzViolations = validateClazz(context, descriptor, value, groups)
+    private fun <T : Any> validateConstraintNode(
+        context: ValidationContext<T>,
+        plan: DataClassPlan,
+        constraintNode: ConstraintNode,
+        value: Any?,
+        groups: Groups
+    ): Set<ConstraintViolation<T>> = when (constraintNode.kind) {
+        ConstraintNode.Kind.PROPERTY_CONSTRAINT -> {
+            val propertyPlan = constraintNode.property!!
+            val checks = propertyPlan.primitiveConstraintChecks
+            // primitive properties which definitely pass their numeric constraint are not boxed
+            if (checks != null && value != null && checks[constraintNode.index].isValid(value)) emptySet()
+            else {
+                val propertyDescriptor = propertyPlan.descriptor
+                val propertyPath = PathImpl.createCopy(context.path)
+                propertyPath.addPropertyNode(propertyDescriptor.propertyName)
+                isValid(
+                    context = context.copy(fieldName = propertyDescriptor.propertyName, path = propertyPath),
+                    constraintDescriptor = propertyPlan.constraints[constraintNode.index],
+                    clazz = propertyDescriptor.elementClass,
+                    value = propertyPlan.getValue(value),
+                    groups = groups,
+                    constraintGroupsMask = propertyPlan.constraintGroupsMasks[constraintNode.index]
+                )
+            }
+        }
+
+        ConstraintNode.Kind.CASCADE ->
+            throw IllegalStateException("Cascades are validated on the CascadeStack, see validateNextConstraintNode.")
 
-            // put them all together
-            propertyViolationResults.toSet() + postConstructViolationsResults.toSet() + clazzViolations
+        ConstraintNode.Kind.POST_CONSTRUCT_VALIDATION -> {
+            val postConstructValidation = constraintNode.postConstructValidation!!
+            executePostConstructValidations(
+                context = context.copy(fieldName = postConstructValidation.method.name),
+                postConstructValidation = postConstructValidation,
+                clazzInstance = value,
+                groups = groups
+            )
         }
 
-        else ->
-            throw ValidationException("Invalid descriptor type: ${descriptor::class.java.name}")
+        ConstraintNode.Kind.CLASS_CONSTRAINT ->
+            isValid(
+                context = context,
+                constraintDescriptor = plan.constraints[constraintNode.index],
+                clazz = plan.descriptor.elementClass,
+                value = value,
+                groups = groups,
+                constraintGroupsMask = plan.constraintGroupsMasks[constraintNode.index]
+            )
     }
 
     // END: Recursive validation methods -------------------------------------------------------------------------------
@@ -992,7 +1866,7 @@ class DataClassValidator(
         context: ValidationContext<T>,
         executableDescriptor: ExecutableDescriptor,
         value: Any?,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> {
         val results = mutableSetOf<ConstraintViolation<T>>()
         val returnValueConstraintDescriptors = executableDescriptor.returnValueDescriptor.constraintDescriptors
@@ -1018,7 +1892,7 @@ class DataClassValidator(
         executable: Executable,
         executableDescriptor: ExecutableDescriptor,
         parameterValues: Array<Any?>,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> {
         val parameterNames = DescriptorFactory.getExecutableParameterNames(executable)
         return validateParameters(
@@ -1037,7 +1911,7 @@ class DataClassValidator(
         executableDescriptor: ExecutableDescriptor,
         fieldNames: List<String>,
         parameterValues: Array<Any?>,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> {
         if (parameterValues.size != fieldNames.size ||
             parameterValues.size != executable.parameterCount) {
@@ -1087,7 +1961,7 @@ class DataClassValidator(
                                     constraintDescriptor = constraintDescriptor,
                                     clazz = parameterDescriptor.elementClass,
                                     value = parameterValue,
-                                    groups = groups.toList()
+                                    groups = groups
                                 )
                             )
                         }
@@ -1095,25 +1969,12 @@ class DataClassValidator(
                         if (parameterValue != null) {
                             if (parameterDescriptor.isCascaded) {
                                 results.addAll(
-                                    if (parameterDescriptor.constrainedContainerElementTypes.isNotEmpty()) {
-                                        // need to cascade the constrained container element type, multi type containers are not supported
-                                        // thus we only read the first constrained container element type
-                                        validateCascadedProperty(
-                                            context = context,
-                                            isCollection = true,
-                                            clazz = parameterDescriptor.constrainedContainerElementTypes.first().elementClass,
-                                            clazzInstance = parameterValue,
-                                            groups = groups
-                                        )
-                                    } else {
-                                        validateCascadedProperty(
-                                            context = context,
-                                            isCollection = false,
-                                            clazz = parameterDescriptor.elementClass,
-                                            clazzInstance = parameterValue,
-                                            groups = groups
-                                        )
-                                    }
+                                    validateCascade(
+                                        context = context,
+                                        descriptor = parameterDescriptor,
+                                        value = parameterValue,
+                                        groups = groups
+                                    )
                                 )
                             }
                         }
@@ -1142,7 +2003,7 @@ class DataClassValidator(
                         constraintDescriptor = constraintDescriptor,
                         clazz = executableDescriptor.crossParameterDescriptor.elementClass,
                         value = parameterValues,
-                        groups = groups.toList()
+                        groups = groups
                     )
                 )
             }
@@ -1151,26 +2012,19 @@ class DataClassValidator(
         return results.toSet()
     }
 
-    private fun isPostConstructValidationConstrainedMethod(methodDescriptor: MethodDescriptor?, value: Any?): Boolean =
-        methodDescriptor != null && value != null &&
-                (methodDescriptor.returnValueDescriptor != null &&
-                        methodDescriptor
-                            .returnValueDescriptor
-                            .constraintDescriptors
-                            .any { it.annotation.eq<PostConstructValidation>() })
-
     private fun <T : Any> validatePostConstructValidation(
         context: ValidationContext<T>,
         clazzInstance: Any,
         path: PathImpl,
-        constraintDescriptor: ConstraintDescriptorImpl<PostConstructValidation>,
-        constraint: PostConstructValidation,
+        postConstructValidation: DataClassPlan.PostConstructValidationPlan,
         returnValue: PostConstructValidationResult
     ): Set<ConstraintViolation<T>> {
         val results = mutableSetOf<ConstraintViolation<T>>()
         if (returnValue.isInstanceOf<PostConstructValidationResult.Invalid>()) {
             val invalidResult = returnValue as PostConstructValidationResult.Invalid
-            val annotationFields: List<String> = constraint.fields.filter { it.isNotEmpty() }
+            val constraintDescriptor = postConstructValidation.constraintDescriptor
+            val constraint = constraintDescriptor.annotation
+            val annotationFields = postConstructValidation.fields
             if (annotationFields.isNotEmpty()) {
                 var index = 0
                 val length = annotationFields.size
@@ -1183,7 +2037,7 @@ class DataClassValidator(
                             constraint = constraint,
                             message = invalidResult.message,
                             path = parameterPath,
-                            invalidValue = ClassHelper.getFieldValue(clazzInstance, fieldName),
+                            invalidValue = postConstructValidation.getFieldValue(clazzInstance, index),
                             rootClazz = context.rootClazz as Class<T>,
                             root = context.root,
                             leaf = clazzInstance,
@@ -1219,16 +2073,17 @@ class DataClassValidator(
         clazz: Class<*>,
         constraintDescriptor: ConstraintDescriptor<out Annotation>,
         value: Any?,
-        groups: List<Class<*>>
+        groups: Groups
     ): Set<ConstraintViolation<T>> {
         val results = mutableSetOf<ConstraintViolation<T>>()
 
-        if (isValidationEnabled(value, constraintDescriptor, groups)) {
+        if (isValidationEnabled(value, constraintDescriptor, groupRegistry.maskOf(constraintDescriptor.groups), groups)) {
             val validators: Set<ConstraintValidator<Annotation, Any>> =
                 ConstraintValidatorFactoryHelper.findInitializedConstraintValidator(
                     context = context,
                     validatorFactory = validatorFactory,
                     constraintValidatorManager = constraintValidatorManager,
+                    initializedConstraintValidators = initializedConstraintValidatorsCache,
                     constraintDescriptor = constraintDescriptor as ConstraintDescriptorImpl<Annotation>,
                     clazz = clazz,
                     value = value
@@ -1285,23 +2140,15 @@ class DataClassValidator(
         } else false
     }
 
-    private fun groupsEnabled(
-        constraintDescriptor: ConstraintDescriptor<*>, groups: List<Class<*>>
-    ): Boolean {
-        val groupsFromAnnotation: Set<Class<*>> = constraintDescriptor.groups
-        return if (groups.isEmpty() && groupsFromAnnotation.isEmpty()) true
-        else if (groups.isEmpty() && groupsFromAnnotation.contains(Default::class.java)) true
-        else if (groups.contains(Default::class.java) && groupsFromAnnotation.isEmpty()) true
-        else groups.any { groupsFromAnnotation.contains(it) }
-    }
-
     /** The value isn't ignorable, and the groups are enabled for the given constraint descriptor */
     private fun isValidationEnabled(
         value: Any?,
         constraintDescriptor: ConstraintDescriptor<*>,
-        groups: List<Class<*>>
+        constraintGroupsMask: Long,
+        groups: Groups
     ): Boolean =
-        (!ignorable(value, constraintDescriptor.annotation) && groupsEnabled(constraintDescriptor, groups))
+        (!ignorable(value, constraintDescriptor.annotation) &&
+                groups.isEnabled(constraintDescriptor.groups, constraintGroupsMask))
 
     private val getExecutableMetaData = ::getExecutableMetaDataFn.memoize()
 
@@ -1341,18 +2188,173 @@ class DataClassValidator(
         return builder.build()
     }
 
-    private fun <T : Any> findFieldValue(
-        obj: Any?,
-        clazz: Class<T>,
-        name: String
-    ): Any? = obj.mapNotNull { instance ->
-        try {
-            val field = clazz.getDeclaredField(name)
-            field.setAccessible(true)
-            field.get(instance)
-        } catch (e: Exception) {
-            if (NonFatal.isNonFatal(e)) throw ValidationException(e)
-            else throw e
+    private fun <T : Any> validateRoot(
+        obj: T,
+        groups: Array<out Class<*>>,
+        isFailFast: Boolean = failFast,
+        cancellationToken: CancellationToken? = null
+    ): Set<ConstraintViolation<T>> = when (val result = validateRootResult(obj, groups, isFailFast, cancellationToken)) {
+        is ValidationResult.Complete -> result.violations
+        is ValidationResult.Truncated -> throw ValidationLimitExceededException(result.limit, result.violations)
+        is ValidationResult.TimedOut -> throw ValidationTimeoutException(result.violations)
+    }
+
+    private fun <T : Any> validateRootResult(
+        obj: T,
+        groups: Array<out Class<*>>,
+        isFailFast: Boolean = failFast,
+        cancellationToken: CancellationToken? = null
+    ): ValidationResult<T> {
+        val event = ValidateEvent()
+        val isRecorded = event.isEnabled
+        if (isRecorded) event.begin()
+        val budget = newValidationBudget(cancellationToken)
+        val violations = validateGroups(obj.javaClass, groups, isFailFast) { requestedGroups ->
+            if (budget != null && budget.isStopped) emptySet()
+            else validateDescriptor(
+                descriptor = null,
+                context = ValidationContext(
+                    null, null, null, null, PathImpl.createRootPath(), isFailFast, budget = budget
+                ),
+                value = obj,
+                groups = requestedGroups
+            )
+        }
+        val exceeded = budget?.exceeded
+        val result = when {
+            budget != null && budget.isCancelled -> ValidationResult.TimedOut(violations)
+            exceeded != null -> ValidationResult.Truncated(truncate(violations), exceeded)
+            else -> ValidationResult.Complete(violations)
+        }
+        if (isRecorded && event.shouldCommit()) {
+            event.rootClass = obj.javaClass
+            event.violations = result.violations.size
+            event.failFast = isFailFast
+            event.result = when (result) {
+                is ValidationResult.Complete -> "COMPLETE"
+                is ValidationResult.Truncated -> "TRUNCATED"
+                is ValidationResult.TimedOut -> "TIMED_OUT"
+            }
+            event.commit()
+        }
+        return result
+    }
+
+    /**
+     * @return a new [ValidationBudget] for a validation call or null if no limits are configured and no
+     *         [CancellationToken] is given.
+     */
+    private fun newValidationBudget(cancellationToken: CancellationToken? = null): ValidationBudget? =
+        if (limits.isUnlimited && cancellationToken == null) null else ValidationBudget(limits, cancellationToken)
+
+    /** @return at most the configured maximum number of the given violations. */
+    private fun <T : Any> truncate(violations: Set<ConstraintViolation<T>>): Set<ConstraintViolation<T>> =
+        if (violations.size <= limits.maxViolations) violations
+        else violations.asSequence().take(limits.maxViolations).toSet()
+
+    /**
+     * Applies the given validation function to the requested groups. When the groups contain a
+     * [jakarta.validation.GroupSequence] interface, or the [Default] group of a class which redefines its default
+     * group sequence, each sequence is evaluated in order and stops at the first group reporting violations.
+     * The redefined default group sequence of a cascaded class is applied per instance, see [CascadeFrame].
+     */
+    private fun <T : Any> validateGroups(
+        clazz: Class<*>,
+        groups: Array<out Class<*>>,
+        isFailFast: Boolean = false,
+        fn: (Groups) -> Set<ConstraintViolation<T>>
+    ): Set<ConstraintViolation<T>> {
+        val groupsList = groups.toList()
+        val defaultGroupSequence = getDefaultGroupSequence(clazz)
+        return if (GroupSequences.isSequenced(groupsList, defaultGroupSequence)) {
+            val results = mutableSetOf<ConstraintViolation<T>>()
+            val sequences = GroupSequences.resolve(clazz, groupsList, defaultGroupSequence)
+            var sequenceIndex = 0
+            while (sequenceIndex < sequences.size && !(isFailFast && results.isNotEmpty())) {
+                val sequence = sequences[sequenceIndex]
+                var index = 0
+                while (index < sequence.size) {
+                    val violations = fn(groupRegistry.resolve(sequence[index]))
+                    if (violations.isNotEmpty()) {
+                        results.addAll(violations)
+                        break
+                    }
+                    index += 1
+                }
+                sequenceIndex += 1
+            }
+            results.toSet()
+        } else fn(groupRegistry.resolve(groupsList))
+    }
+
+    /**
+     * @return the redefined default group sequence of the given class or null if it does not redefine it.
+     * @note this method is memoized as it should only ever need to be calculated once for a given [Class].
+     */
+    private val getDefaultGroupSequence = ::getDefaultGroupSequenceFn.memoize()
+    private fun getDefaultGroupSequenceFn(clazz: Class<*>): List<Class<*>>? {
+        val groupSequence = DescriptorFactory.findGroupSequenceValues(clazz)
+        return if (groupSequence != listOf(Default::class.java)) groupSequence else null
+    }
+
+    /**
+     * A @PostConstructValidation method is considered changed when it does not specify its `fields`, as its
+     * inputs are then unknown, or when the value of any of its `fields` changed.
+     */
+    private fun isChanged(
+        postConstructValidation: DataClassPlan.PostConstructValidationPlan,
+        previous: Any,
+        current: Any
+    ): Boolean {
+        val fields = postConstructValidation.fields
+        if (fields.isEmpty()) return true
+        var index = 0
+        while (index < fields.size) {
+            val currentValue = postConstructValidation.getFieldValue(current, index)
+            val previousValue = postConstructValidation.getFieldValue(previous, index)
+            if (currentValue !== previousValue && currentValue != previousValue) return true
+            index += 1
+        }
+        return false
+    }
+
+    /**
+     * @return the name of the property or method of the root bean a violation was reported under, without any
+     *         index, or null for a class-level violation.
+     */
+    private fun getRootPropertyName(violation: ConstraintViolation<*>): String? {
+        val iterator = violation.propertyPath.iterator()
+        while (iterator.hasNext()) {
+            val name = iterator.next().name
+            if (name != null) return name.substringBefore('[')
+        }
+        return null
+    }
+
+    private data class ResultCacheKey(val instance: Any, val groups: Set<Class<*>>)
+
+    /** @note this method is memoized as it should only ever need to be calculated once for a given [Class]. */
+    private val isResultCacheable = ::isResultCacheableFn.memoize()
+    private fun isResultCacheableFn(clazz: Class<*>): Boolean =
+        (resultCacheClasses.isEmpty() || resultCacheClasses.contains(clazz)) && CacheableClasses.isCacheable(clazz)
+
+    private fun getDataClassPlan(descriptor: BeanDescriptor): DataClassPlan = metadata.getDataClassPlan(descriptor)
+
+    /** @return true if every enabled constraint of the property definitely passes its primitive check. */
+    private fun isValidPrimitiveProperty(
+        propertyPlan: DataClassPlan.PropertyPlan,
+        value: Any?,
+        groups: Groups
+    ): Boolean {
+        val checks = propertyPlan.primitiveConstraintChecks
+        if (checks == null || value == null) return false
+        var index = 0
+        while (index < checks.size) {
+            val check = checks[index]
+            if (groups.isEnabled(check.constraintDescriptor.groups, propertyPlan.constraintGroupsMasks[index]) &&
+                !check.isValid(value)) return false
+            index += 1
         }
+        return true
     }
 }
@@ -6,14 +6,20 @@ import angstromio.util.extensions.Annotations.getAnnotatedTypeAnnotations
 import angstromio.util.extensions.Annotations.merge
 import angstromio.util.reflect.Annotations
 import angstromio.validation.constraints.PostConstructValidation
+import angstromio.validation.engine.DescriptorCachePolicy
+import angstromio.validation.engine.DescriptorCacheStats
 import angstromio.validation.engine.PostConstructValidationResult
 import angstromio.validation.internal.ConstraintValidatorFactoryHelper
 import angstromio.validation.internal.engine.ClassHelper
+import angstromio.validation.internal.jfr.DescriptorBuildEvent
+import angstromio.validation.internal.metadata.KotlinMetadata
 import angstromio.validation.internal.metadata.descriptor.ConstraintDescriptorFactory
+import angstromio.validation.internal.metadata.descriptor.LazyBeanDescriptor
 import arrow.core.Ior
 import arrow.core.memoize
 import com.github.benmanes.caffeine.cache.Cache
 import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.stats.CacheStats
 import jakarta.validation.ConstraintDeclarationException
 import jakarta.validation.ConstraintTarget
 import jakarta.validation.ConstraintValidator
@@ -51,18 +57,17 @@ import java.lang.reflect.Field
 import java.lang.reflect.Method
 import java.lang.reflect.Parameter
 import java.lang.reflect.Type
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
 import kotlin.reflect.KClass
 import kotlin.reflect.KFunction
 import kotlin.reflect.KParameter
-import kotlin.reflect.full.memberProperties
-import kotlin.reflect.full.primaryConstructor
 import kotlin.reflect.jvm.javaConstructor
 import kotlin.reflect.jvm.javaMethod
 import kotlin.reflect.jvm.jvmName
-import kotlin.reflect.jvm.kotlinFunction
 
 internal class DescriptorFactory(
-    descriptorCacheSize: Long,
+    private val cachePolicy: DescriptorCachePolicy,
     private val validatorFactory: ValidatorFactoryInspector,
     private val constraintDescriptorFactory: ConstraintDescriptorFactory
 ) {
@@ -70,6 +75,27 @@ internal class DescriptorFactory(
     companion object {
         val IgnoredMethodNames: List<String> = listOf("equals", "copy", "hashCode", "toString", "copy${'$'}default")
 
+        /** The number of descriptor lookups between two auto-tuning checks of the descriptor cache. */
+        private const val AUTO_TUNE_INTERVAL: Long = 1024
+
+        /** The bound of an auto-tuned descriptor cache grows while its miss rate exceeds this rate. */
+        private const val AUTO_TUNE_MISS_RATE: Double = 0.05
+
+        /**
+         * The weight of a descriptor in a weighted descriptor cache: its number of constrained properties and
+         * constraints plus one. Method and constructor descriptors are not weighed as they are built lazily.
+         */
+        internal fun weigh(descriptor: BeanDescriptor): Int {
+            var weight = 1 + descriptor.constraintDescriptors.size
+            for (propertyDescriptor in descriptor.constrainedProperties) {
+                weight += 1 + propertyDescriptor.constraintDescriptors.size
+                for (containerElementType in propertyDescriptor.constrainedContainerElementTypes) {
+                    weight += containerElementType.constraintDescriptors.size
+                }
+            }
+            return weight
+        }
+
         internal val getExecutableParameterNames = ::getExecutableParameterNamesFn.memoize()
         internal val getKFunctionParameterNames = ::getKFunctionParameterNamesFn.memoize()
 
@@ -77,14 +103,12 @@ internal class DescriptorFactory(
         private fun getKFunctionParameterNamesFn(kFunction: KFunction<*>): List<String> =
             kFunction.parameters.filter { it.kind == KParameter.Kind.VALUE }.map { it.name!! }
 
+        /**
+         * @note reads the Kotlin metadata of the declaring class rather than the [KFunction] of the executable.
+         * @see KotlinMetadata.parameterNames
+         */
         private fun getExecutableParameterNamesFn(executable: Executable): List<String> =
-            when (executable) {
-                is Method ->
-                    getKFunctionParameterNamesFn(executable.kotlinFunction!!)
-
-                is Constructor<*> ->
-                    getKFunctionParameterNamesFn(executable.kotlinFunction!!)
-            }
+            KotlinMetadata.parameterNames(executable)
 
         private val DefaultGroupsList: List<Class<*>> = listOf(Default::class.java)
 
@@ -92,7 +116,7 @@ internal class DescriptorFactory(
             annotations.find<Valid>() != null
 
         @Suppress("UNCHECKED_CAST")
-        private fun findGroupSequenceValues(clazz: Class<*>): List<Class<*>> {
+        internal fun findGroupSequenceValues(clazz: Class<*>): List<Class<*>> {
             val groupSequenceAnnotation = clazz.annotations.find<GroupSequence>()
             return if (groupSequenceAnnotation != null) {
                 val groupSequenceAnnotationValueMethod =
@@ -107,10 +131,27 @@ internal class DescriptorFactory(
     private val dataClassDescriptorsCache: Cache<Class<*>, BeanDescriptor> =
         Caffeine
             .newBuilder()
-            .maximumSize(descriptorCacheSize)
+            .apply {
+                if (cachePolicy.isWeighted) {
+                    maximumWeight(cachePolicy.maximumWeight)
+                    weigher<Class<*>, BeanDescriptor> { _, descriptor -> weigh(descriptor) }
+                } else maximumSize(cachePolicy.maximumSize)
+                if (cachePolicy.softValues) softValues()
+            }
+            .recordStats()
             .build()
 
+    /** Descriptors of the pinned classes of the [DescriptorCachePolicy], never evicted. */
+    private val pinnedDescriptors: ConcurrentHashMap<Class<*>, BeanDescriptor> = ConcurrentHashMap()
+
+    private val lookups: AtomicLong = AtomicLong(0L)
+
+    /** The statistics of the descriptor cache at the last auto-tuning check. */
+    @Volatile
+    private var autoTunedStats: CacheStats = CacheStats.empty()
+
     fun close() {
+        pinnedDescriptors.clear()
         dataClassDescriptorsCache.invalidateAll()
         dataClassDescriptorsCache.cleanUp()
     }
@@ -122,7 +163,54 @@ internal class DescriptorFactory(
      *       the given KClass<T< type.
      */
     fun <T : Any> describe(clazz: Class<T>): BeanDescriptor {
-        return (dataClassDescriptorsCache.get(clazz) { buildDescriptor(clazz) })
+        if (cachePolicy.pinnedClasses.contains(clazz)) {
+            return pinnedDescriptors[clazz] ?: pinnedDescriptors.computeIfAbsent(clazz) {
+                buildRecordedDescriptor(clazz, isPinned = true)
+            }
+        }
+        if (cachePolicy.isAutoTuned && lookups.incrementAndGet() % AUTO_TUNE_INTERVAL == 0L) autoTune()
+        return (dataClassDescriptorsCache.get(clazz) { buildRecordedDescriptor(clazz, isPinned = false) })
+    }
+
+    /** @return the cached descriptors, including pinned descriptors, by data class. */
+    fun cachedDescriptors(): Map<Class<*>, BeanDescriptor> =
+        dataClassDescriptorsCache.asMap().toMap() + pinnedDescriptors
+
+    /** Perform the pending maintenance of the descriptor cache, e.g., evictions. */
+    fun cleanUp(): Unit = dataClassDescriptorsCache.cleanUp()
+
+    /** @return true if the descriptor of the given class is pinned. */
+    fun isPinned(clazz: Class<*>): Boolean = pinnedDescriptors.containsKey(clazz)
+
+    /** @return the statistics of the descriptor cache. */
+    fun stats(): DescriptorCacheStats {
+        val stats = dataClassDescriptorsCache.stats()
+        return DescriptorCacheStats(
+            hitCount = stats.hitCount(),
+            missCount = stats.missCount(),
+            evictionCount = stats.evictionCount(),
+            estimatedSize = dataClassDescriptorsCache.estimatedSize(),
+            pinnedSize = pinnedDescriptors.size.toLong(),
+            maximum = dataClassDescriptorsCache.policy().eviction().map { it.maximum }.orElse(cachePolicy.maximum)
+        )
+    }
+
+    /**
+     * Double the bound of the descriptor cache, up to the [DescriptorCachePolicy.autoTuneMaximum], when descriptors
+     * were evicted and the miss rate exceeded [AUTO_TUNE_MISS_RATE] since the last check.
+     */
+    private fun autoTune() {
+        val stats = dataClassDescriptorsCache.stats()
+        val window = stats.minus(autoTunedStats)
+        autoTunedStats = stats
+        if (window.evictionCount() > 0L && window.missRate() > AUTO_TUNE_MISS_RATE) {
+            dataClassDescriptorsCache.policy().eviction().ifPresent { eviction ->
+                val maximum = eviction.maximum
+                if (maximum < cachePolicy.autoTuneMaximum) {
+                    eviction.maximum = minOf(cachePolicy.autoTuneMaximum, maxOf(1L, maximum * 2))
+                }
+            }
+        }
     }
 
     /**
@@ -162,9 +250,7 @@ internal class DescriptorFactory(
             } ?: emptyMap()
 
         val fieldAnnotations =
-            mixinClazz?.kotlin?.memberProperties?.associate { mixinMemberProperty ->
-                mixinMemberProperty.name to mixinMemberProperty.annotations
-            } ?: emptyMap()
+            mixinClazz?.let { KotlinMetadata.propertyAnnotations(it) } ?: emptyMap()
         val annotationMap = mutableMapOf<String, Array<Annotation>>()
         methodAnnotations.map { (key, value) ->
             annotationMap[ClassHelper.unMaskMethodName(key)] = value
@@ -172,9 +258,9 @@ internal class DescriptorFactory(
         fieldAnnotations.map { (key, value) ->
             val current = annotationMap[key]
             if (current != null) {
-                annotationMap[key] = current.merge(value.toTypedArray())
+                annotationMap[key] = current.merge(value)
             } else {
-                annotationMap[key] = value.toTypedArray()
+                annotationMap[key] = value
             }
         }
 
@@ -202,25 +288,34 @@ internal class DescriptorFactory(
         } else emptyList()
     }
 
+    /** Build the descriptor of the given class, recorded as a [DescriptorBuildEvent] when enabled. */
+    private fun buildRecordedDescriptor(clazz: Class<*>, isPinned: Boolean): BeanDescriptor {
+        val event = DescriptorBuildEvent()
+        if (!event.isEnabled) return buildDescriptor(clazz)
+        event.begin()
+        val descriptor = buildDescriptor(clazz)
+        if (event.shouldCommit()) {
+            event.describedClass = clazz
+            event.pinned = isPinned
+            event.commit()
+        }
+        return descriptor
+    }
+
     private fun buildDescriptor(clazz: Class<*>): BeanDescriptor {
         val groups: List<Class<*>> = findGroupSequenceValues(clazz).toList()
-        val kClazz = clazz.kotlin
-
-        val kotlinConstructors = kClazz.constructors
-        val kotlinConstructor = kClazz.primaryConstructor
-            ?: if (kotlinConstructors.isNotEmpty()) {
-                kotlinConstructors.first()
-            } else null
+        // read from the Kotlin metadata of the class, see KotlinMetadata
+        val primaryConstructor = KotlinMetadata.primaryConstructor(clazz)
 
         // collect all possible field/property/member annotations:
         // 1. from constructor params -- this is the discriminating list of param names, e.g., the next two are filtered by these names
         // 2. from java declared fields for @field:Annotations
         // 3. from fields represented as java declared methods for @get:Annotations (@set:Annotation do not convey)
         val fieldAnnotationsMap: MutableMap<String, Array<Annotation>> =
-            (kotlinConstructor?.let { constructor ->
+            (primaryConstructor?.let { constructor ->
                 Annotations.getConstructorAnnotations(
                     clazz,
-                    constructor.javaConstructor!!.parameterTypes
+                    constructor.parameterTypes
                 )
             } ?: emptyMap()).toMutableMap()     // 1. from constructor params
         val fields = clazz.declaredFields       // 2. from java declared fields
@@ -231,7 +326,8 @@ internal class DescriptorFactory(
                     current.merge(field.annotations)
             }
         }
-        // check declared methods
+        // check declared methods, a cheap first pass which only looks at the annotations of each method
+        val postConstructValidationMethods = mutableListOf<Method>()
         val declaredMethods = clazz.declaredMethods.filterNot { IgnoredMethodNames.contains(it.name) }
         for (method in declaredMethods) {
             val methodAsFieldName = ClassHelper.unMaskMethodName(method.name)
@@ -240,35 +336,65 @@ internal class DescriptorFactory(
                 fieldAnnotationsMap[methodAsFieldName] = current.merge(method.annotations)
             }
             checkConstrainedDeclaredMethod(method) // ensure there's no incorrectly specified method
-            checkPostConstructValidationMethod(fieldAnnotationsMap[methodAsFieldName].merge(method.annotations), method)
+            val methodAnnotations = fieldAnnotationsMap[methodAsFieldName].merge(method.annotations)
+            checkPostConstructValidationMethod(methodAnnotations, method)
+            if (methodAnnotations.find<PostConstructValidation>() != null) postConstructValidationMethods.add(method)
         }
 
-        return BeanDescriptorImpl(
-            /* beanClass = */ clazz,
-            /* classLevelConstraints = */
-            clazz.annotations
-                .filter { isConstraintAnnotation(it) }
-                .map { annotation ->
-                    constraintDescriptorFactory.newConstraintDescriptor(
-                        constrainable = constraintDescriptorFactory.mkConstrainable(
-                            name = null,
-                            clazz = clazz,
-                            declaringClazz = clazz,
-                            constrainedElementKind = ConstrainedElement.ConstrainedElementKind.TYPE
-                        ),
-                        annotation = annotation
-                    )
-                }.toSet(),
-            /* constrainedProperties = */
-            buildPropertyDescriptors(fieldAnnotationsMap, clazz.declaredFields, groups),
-            /* constrainedMethods = */
-            buildMethodDescriptors(fieldAnnotationsMap, clazz.declaredMethods, groups),
-            /* constrainedConstructors = */
-            buildConstructors(fieldAnnotationsMap, clazz.constructors, groups),
-            /* defaultGroupSequenceRedefined = */
-            groups != DefaultGroupsList,
-            /* defaultGroupSequence = */
-            groups
+        val annotationMap = fieldAnnotationsMap.toMap()
+        val classLevelConstraints = clazz.annotations
+            .filter { isConstraintAnnotation(it) }
+            .map { annotation ->
+                constraintDescriptorFactory.newConstraintDescriptor(
+                    constrainable = constraintDescriptorFactory.mkConstrainable(
+                        name = null,
+                        clazz = clazz,
+                        declaringClazz = clazz,
+                        constrainedElementKind = ConstrainedElement.ConstrainedElementKind.TYPE
+                    ),
+                    annotation = annotation
+                )
+            }.toSet()
+        val constrainedProperties = buildPropertyDescriptors(annotationMap, clazz.declaredFields, groups)
+
+        // method and constructor descriptors are only built when first accessed, except for the
+        // @PostConstructValidation methods which are needed to validate an instance
+        return LazyBeanDescriptor(
+            descriptor = BeanDescriptorImpl(
+                /* beanClass = */ clazz,
+                /* classLevelConstraints = */ classLevelConstraints,
+                /* constrainedProperties = */ constrainedProperties,
+                /* constrainedMethods = */ emptyMap(),
+                /* constrainedConstructors = */ emptyMap(),
+                /* defaultGroupSequenceRedefined = */ groups != DefaultGroupsList,
+                /* defaultGroupSequence = */ groups
+            ),
+            postConstructValidationMethods = postConstructValidationMethods.mapNotNull { method ->
+                buildMethodDescriptor(annotationMap, method, groups)
+            },
+            executables = {
+                val event = DescriptorBuildEvent()
+                val isRecorded = event.isEnabled
+                if (isRecorded) event.begin()
+                BeanDescriptorImpl(
+                    /* beanClass = */ clazz,
+                    /* classLevelConstraints = */ classLevelConstraints,
+                    /* constrainedProperties = */ constrainedProperties,
+                    /* constrainedMethods = */
+                    buildMethodDescriptors(annotationMap, clazz.declaredMethods, groups),
+                    /* constrainedConstructors = */
+                    buildConstructors(annotationMap, clazz.constructors, groups),
+                    /* defaultGroupSequenceRedefined = */ groups != DefaultGroupsList,
+                    /* defaultGroupSequence = */ groups
+                ).also {
+                    if (isRecorded && event.shouldCommit()) {
+                        event.describedClass = clazz
+                        event.pinned = cachePolicy.pinnedClasses.contains(clazz)
+                        event.executables = true
+                        event.commit()
+                    }
+                }
+            }
         )
     }
 
@@ -323,9 +449,7 @@ internal class DescriptorFactory(
         }
 
         val annotationsIor: Ior<Array<Annotation>, Array<Annotation>> = getAnnotations()
-        val parameterNames = if (constructor.kotlinFunction != null) {
-            getKFunctionParameterNames(constructor.kotlinFunction!!)
-        } else emptyList()
+        val parameterNames = getExecutableParameterNames(constructor)
 
         val crossParameterConstraints = (annotationsIor.leftOrNull() ?: emptyArray())
             .filter { isConstraintAnnotation(it) }
@@ -420,9 +544,7 @@ internal class DescriptorFactory(
         }
 
         val annotationsIor: Ior<Array<Annotation>, Array<Annotation>> = getAnnotations()
-        val parameterNames = if (method.kotlinFunction != null) {
-            getKFunctionParameterNames(method.kotlinFunction!!)
-        } else emptyList()
+        val parameterNames = getExecutableParameterNames(method)
 
         val crossParameterConstraints = (annotationsIor.leftOrNull() ?: emptyArray())
             .filter { isConstraintAnnotation(it) }
@@ -0,0 +1,37 @@
+package angstromio.validation.engine
+
+import java.time.Duration
+
+/**
+ * Cooperatively stops a [angstromio.validation.DataClassValidator] validation call, either when [cancel] is called,
+ * e.g., from another thread, or when its deadline passes. The token is checked between the validation of
+ * properties, of cascaded collection elements and of `@PostConstructValidation` methods, a single constraint
+ * which is being evaluated is not interrupted.
+ *
+ * A token may be shared by multiple validation calls, e.g., all validation calls of a single request.
+ */
+class CancellationToken private constructor(
+    private val deadlineNanos: Long,
+    private val hasDeadline: Boolean
+) {
+    companion object {
+        /** @return a token without a deadline, which is only cancelled by [cancel]. */
+        operator fun invoke(): CancellationToken = CancellationToken(0L, false)
+
+        /** @return a token which is cancelled once the given timeout, starting now, elapses. */
+        fun withTimeout(timeout: Duration): CancellationToken =
+            CancellationToken(System.nanoTime() + timeout.toNanos(), true)
+    }
+
+    @Volatile
+    private var cancelled: Boolean = false
+
+    /** Cancel any validation call using this token. */
+    fun cancel() {
+        cancelled = true
+    }
+
+    /** True if [cancel] was called or the deadline of the token passed. */
+    val isCancelled: Boolean
+        get() = cancelled || (hasDeadline && System.nanoTime() - deadlineNanos >= 0L)
+}
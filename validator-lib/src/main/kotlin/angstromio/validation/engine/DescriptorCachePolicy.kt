@@ -0,0 +1,45 @@
+package angstromio.validation.engine
+
+/**
+ * The bound and eviction behaviour of the cache of data class descriptors of a
+ * [angstromio.validation.DataClassValidator]. Rebuilding an evicted descriptor is expensive, thus the cache should
+ * hold the working set of validated data classes.
+ *
+ * @param maximumSize          the maximum number of cached descriptors, when not weighted.
+ * @param maximumWeight        if greater than 0, the cache is bounded by the total weight of the cached descriptors
+ *                             instead of their number, where the weight of a descriptor is its number of constrained
+ *                             properties and constraints plus one.
+ * @param pinnedClasses        the data classes the descriptors of which are never evicted, not counted by the bound.
+ * @param softValues           whether cached descriptors are softly referenced, i.e., evicted by the garbage
+ *                             collector under memory pressure.
+ * @param autoTuneMaximum      if greater than the bound, the bound, i.e., [maximumSize] or [maximumWeight], grows up
+ *                             to this maximum while descriptors are evicted and the cache miss rate is high.
+ */
+data class DescriptorCachePolicy(
+    val maximumSize: Long = DEFAULT_MAXIMUM_SIZE,
+    val maximumWeight: Long = 0L,
+    val pinnedClasses: Set<Class<*>> = emptySet(),
+    val softValues: Boolean = false,
+    val autoTuneMaximum: Long = 0L
+) {
+    companion object {
+        /** The default maximum number of cached descriptors. */
+        const val DEFAULT_MAXIMUM_SIZE: Long = 128
+    }
+
+    init {
+        if (maximumSize < 0L || maximumWeight < 0L || autoTuneMaximum < 0L) {
+            throw IllegalArgumentException("Invalid descriptor cache policy: $this.")
+        }
+    }
+
+    val isWeighted: Boolean
+        get() = maximumWeight > 0L
+
+    /** The bound of the cache, in number of descriptors or total weight. */
+    val maximum: Long
+        get() = if (isWeighted) maximumWeight else maximumSize
+
+    val isAutoTuned: Boolean
+        get() = autoTuneMaximum > maximum
+}
@@ -0,0 +1,29 @@
+package angstromio.validation.engine
+
+/**
+ * A snapshot of the statistics of the data class descriptor cache of a [angstromio.validation.DataClassValidator].
+ * Lookups of pinned descriptors are not counted.
+ *
+ * @param hitCount      the number of lookups answered from the cache.
+ * @param missCount     the number of lookups which built a descriptor.
+ * @param evictionCount the number of descriptors evicted from the cache.
+ * @param estimatedSize the approximate number of cached descriptors, excluding pinned descriptors.
+ * @param pinnedSize    the number of pinned descriptors.
+ * @param maximum       the current bound of the cache, in number of descriptors or total weight, which grows when
+ *                      the cache is auto-tuned.
+ */
+data class DescriptorCacheStats(
+    val hitCount: Long,
+    val missCount: Long,
+    val evictionCount: Long,
+    val estimatedSize: Long,
+    val pinnedSize: Long,
+    val maximum: Long
+) {
+    /** The ratio of cache hits to lookups, or 1.0 when there have been none. */
+    val hitRate: Double
+        get() {
+            val requestCount = hitCount + missCount
+            return if (requestCount == 0L) 1.0 else hitCount.toDouble() / requestCount
+        }
+}
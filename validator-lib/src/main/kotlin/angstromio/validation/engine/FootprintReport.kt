@@ -0,0 +1,54 @@
+package angstromio.validation.engine
+
+/**
+ * An estimate of the heap retained by the metadata of a [angstromio.validation.DataClassValidator], in bytes. Each
+ * object is counted once, for the first of the following which references it: the interned constraint descriptors,
+ * the initialized constraint validators, the descriptor, executable descriptors and validation plan of each cached
+ * data class, and the memoized helper functions of the validator.
+ *
+ * @param classes                   the footprint of each cached data class, in descending order of size.
+ * @param constraintDescriptorsSize the size of the interned constraint and annotation descriptors.
+ * @param constraintDescriptorCount the number of interned constraint descriptors.
+ * @param initializedValidatorsSize the size of the initialized constraint validators.
+ * @param memoizedSize              the size of the results held by the memoized helper functions of the validator,
+ *                                  e.g., the Hibernate Validator executable metadata.
+ * @param isInstrumented            whether shallow object sizes were measured with the
+ *                                  [angstromio.validation.tools.FootprintAgent] rather than estimated.
+ * @param isSharedMetadata          whether the descriptors and plans are shared with the other validators of a
+ *                                  [ValidationMetadataRegistry].
+ */
+data class FootprintReport(
+    val classes: List<ClassFootprint>,
+    val constraintDescriptorsSize: Long,
+    val constraintDescriptorCount: Long,
+    val initializedValidatorsSize: Long,
+    val memoizedSize: Long,
+    val isInstrumented: Boolean,
+    val isSharedMetadata: Boolean
+) {
+
+    /**
+     * The footprint of a cached data class.
+     *
+     * @param clazz          the data class.
+     * @param descriptorSize the size of its [jakarta.validation.metadata.BeanDescriptor], excluding method and
+     *                       constructor descriptors.
+     * @param executableSize the size of its method and constructor descriptors, 0 when they have not been built.
+     * @param planSize       the size of its compiled validation plan, 0 when it has not been validated.
+     * @param isPinned       whether its descriptor is pinned, see [DescriptorCachePolicy.pinnedClasses].
+     */
+    data class ClassFootprint(
+        val clazz: Class<*>,
+        val descriptorSize: Long,
+        val executableSize: Long,
+        val planSize: Long,
+        val isPinned: Boolean
+    ) {
+        val size: Long
+            get() = descriptorSize + executableSize + planSize
+    }
+
+    /** The total estimated size of the metadata of the validator. */
+    val size: Long
+        get() = classes.sumOf { it.size } + constraintDescriptorsSize + initializedValidatorsSize + memoizedSize
+}
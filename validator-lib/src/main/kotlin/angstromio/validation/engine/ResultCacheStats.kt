@@ -0,0 +1,23 @@
+package angstromio.validation.engine
+
+/**
+ * A snapshot of the statistics of a [angstromio.validation.DataClassValidator] validation result cache.
+ *
+ * @param hitCount      the number of validations answered from the cache.
+ * @param missCount     the number of cacheable validations which were computed.
+ * @param evictionCount the number of results evicted from the cache.
+ * @param estimatedSize the approximate number of cached results.
+ */
+data class ResultCacheStats(
+    val hitCount: Long,
+    val missCount: Long,
+    val evictionCount: Long,
+    val estimatedSize: Long
+) {
+    /** The ratio of cache hits to cacheable validations, or 1.0 when there have been none. */
+    val hitRate: Double
+        get() {
+            val requestCount = hitCount + missCount
+            return if (requestCount == 0L) 1.0 else hitCount.toDouble() / requestCount
+        }
+}
@@ -0,0 +1,17 @@
+package angstromio.validation.engine
+
+import jakarta.validation.ConstraintViolation
+import jakarta.validation.ValidationException
+
+/**
+ * Thrown by [angstromio.validation.DataClassValidator.validate] when a validation call is stopped by one of the
+ * configured [ValidationLimits], as the returned violations would otherwise not be distinguishable from the
+ * violations of a complete validation.
+ *
+ * @param limit      the [ValidationLimits.Limit] which stopped the validation call.
+ * @param violations the violations found up to that point.
+ */
+class ValidationLimitExceededException(
+    val limit: ValidationLimits.Limit,
+    val violations: Set<ConstraintViolation<*>>
+) : ValidationException("Validation limit exceeded: $limit, ${violations.size} violation(s) found.")
@@ -0,0 +1,34 @@
+package angstromio.validation.engine
+
+/**
+ * Limits on the work of a single [angstromio.validation.DataClassValidator] validation call, guarding against
+ * object graphs, e.g., deserialized from untrusted input, which are too large to validate in full.
+ *
+ * @param maxViolations         the maximum number of violations returned.
+ * @param maxDepth              the maximum number of nested cascades into data classes from the validated instance.
+ * @param maxCollectionElements the maximum number of elements of a single cascaded collection which are validated.
+ * @param maxNodesVisited       the maximum number of cascaded data class instances which are validated.
+ */
+data class ValidationLimits(
+    val maxViolations: Int = Int.MAX_VALUE,
+    val maxDepth: Int = Int.MAX_VALUE,
+    val maxCollectionElements: Int = Int.MAX_VALUE,
+    val maxNodesVisited: Int = Int.MAX_VALUE
+) {
+    companion object {
+        /** No limits, every validation is complete. */
+        val Unlimited: ValidationLimits = ValidationLimits()
+    }
+
+    /** A limit which stopped a validation call. */
+    enum class Limit { VIOLATIONS, DEPTH, COLLECTION_ELEMENTS, NODES_VISITED }
+
+    init {
+        if (maxViolations < 1 || maxDepth < 0 || maxCollectionElements < 0 || maxNodesVisited < 0) {
+            throw IllegalArgumentException("Invalid validation limits: $this.")
+        }
+    }
+
+    val isUnlimited: Boolean
+        get() = this == Unlimited
+}
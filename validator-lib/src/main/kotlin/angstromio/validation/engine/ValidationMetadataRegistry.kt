@@ -0,0 +1,59 @@
+package angstromio.validation.engine
+
+import angstromio.validation.cfg.ConstraintMapping
+import angstromio.validation.internal.engine.ValidationMetadata
+import org.hibernate.validator.internal.engine.ValidatorFactoryInspector
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Holds the metadata of validated data classes, i.e., their descriptors and compiled validation plans, such that
+ * it is built and kept once for all the [angstromio.validation.DataClassValidator] instances built with the
+ * registry, e.g., a validator per tenant which only differs in its [jakarta.validation.MessageInterpolator].
+ *
+ * Message interpolation remains per validator. Validators built with different constraint mappings do not share
+ * metadata as the mappings change the constraint definitions, the registry holds the metadata per set of
+ * [ConstraintMapping]s instead. Neither do validators with a different bootstrap mode, see
+ * [angstromio.validation.DataClassValidator.Builder.withFastBootstrap], as `META-INF/validation.xml` may declare
+ * constraints which a fast bootstrap ignores.
+ *
+ * The registry outlives the validators built with it: closing a validator does not close the shared metadata,
+ * [close] the registry once none of its validators are in use anymore.
+ *
+ * @param descriptorCachePolicy the [DescriptorCachePolicy] of the descriptors kept per set of constraint mappings.
+ */
+class ValidationMetadataRegistry(private val descriptorCachePolicy: DescriptorCachePolicy = DescriptorCachePolicy()) {
+
+    /** @param cacheSize the maximum number of data classes for which metadata is kept per set of constraint mappings. */
+    constructor(cacheSize: Long) : this(DescriptorCachePolicy(maximumSize = cacheSize))
+
+    /** The constraint mappings and bootstrap mode of the validator factory of shared metadata. */
+    private data class MetadataKey(val constraintMappings: Set<ConstraintMapping>, val fastBootstrap: Boolean)
+
+    private val metadata: ConcurrentHashMap<MetadataKey, ValidationMetadata> = ConcurrentHashMap()
+
+    /** The number of distinct sets of constraint mappings and bootstrap modes for which metadata is held. */
+    val size: Int
+        get() = metadata.size
+
+    /**
+     * @return the [ValidationMetadata] for the given constraint mappings and bootstrap mode, created with a validator
+     *         factory from the given function on first use.
+     */
+    internal fun metadata(
+        constraintMappings: Set<ConstraintMapping>,
+        fastBootstrap: Boolean,
+        validatorFactory: () -> ValidatorFactoryInspector
+    ): ValidationMetadata =
+        metadata.computeIfAbsent(MetadataKey(constraintMappings, fastBootstrap)) {
+            ValidationMetadata(descriptorCachePolicy, validatorFactory())
+        }
+
+    /** Release the metadata and the validator factories of the registry. */
+    fun close() {
+        metadata.values.forEach { validationMetadata ->
+            validationMetadata.close()
+            validationMetadata.validatorFactory.close()
+        }
+        metadata.clear()
+    }
+}
@@ -0,0 +1,36 @@
+package angstromio.validation.engine
+
+import jakarta.validation.ConstraintViolation
+
+/**
+ * The result of a [angstromio.validation.DataClassValidator] validation call.
+ *
+ * @see [angstromio.validation.DataClassValidator.validateAll]
+ */
+sealed class ValidationResult<T> {
+
+    /** The violations found by the validation call. */
+    abstract val violations: Set<ConstraintViolation<T>>
+
+    /** The validation call validated the entire object graph. */
+    data class Complete<T>(
+        override val violations: Set<ConstraintViolation<T>>
+    ) : ValidationResult<T>()
+
+    /**
+     * The validation call was stopped by the given [ValidationLimits.Limit], the object graph is only partially
+     * validated and the violations are the ones found up to that point.
+     */
+    data class Truncated<T>(
+        override val violations: Set<ConstraintViolation<T>>,
+        val limit: ValidationLimits.Limit
+    ) : ValidationResult<T>()
+
+    /**
+     * The [CancellationToken] of the validation call was cancelled or its deadline passed, the object graph is
+     * only partially validated and the violations are the ones found up to that point.
+     */
+    data class TimedOut<T>(
+        override val violations: Set<ConstraintViolation<T>>
+    ) : ValidationResult<T>()
+}
@@ -0,0 +1,14 @@
+package angstromio.validation.engine
+
+import jakarta.validation.ConstraintViolation
+import jakarta.validation.ValidationException
+
+/**
+ * Thrown by [angstromio.validation.DataClassValidator.validate] when the [CancellationToken] of a validation call
+ * is cancelled or its deadline passes before the validation completes.
+ *
+ * @param violations the violations found up to that point.
+ */
+class ValidationTimeoutException(
+    val violations: Set<ConstraintViolation<*>>
+) : ValidationException("Validation timed out, ${violations.size} violation(s) found.")
@@ -1,6 +1,7 @@
 package angstromio.validation.internal
 
 import arrow.core.memoize
+import com.github.benmanes.caffeine.cache.Cache
 import jakarta.validation.Constraint
 import jakarta.validation.ConstraintValidator
 import jakarta.validation.UnexpectedTypeException
@@ -24,11 +25,17 @@ internal object ConstraintValidatorFactoryHelper {
         }
     }
 
+    /**
+     * Returns the initialized validators of the given constraint. Validators which are not resolved by Hibernate
+     * Validator for the validated type are initialized once per distinct constraint annotation and kept in the given
+     * cache, as constraint validators are required to be thread-safe.
+     */
     @Suppress("UNCHECKED_CAST")
     fun findInitializedConstraintValidator(
         context: ValidationContext<*>,
         validatorFactory: ValidatorFactoryInspector,
         constraintValidatorManager: ConstraintValidatorManager,
+        initializedConstraintValidators: Cache<Annotation, Set<ConstraintValidator<Annotation, Any>>>,
         constraintDescriptor: ConstraintDescriptorImpl<Annotation>,
         clazz: Class<*>,
         value: Any?
@@ -41,21 +48,21 @@ internal object ConstraintValidatorFactoryHelper {
             value = value
         )
         return when (validator) {
-            null -> {
+            null -> initializedConstraintValidators.get(constraintDescriptor.annotation) { annotation ->
                 val set = findConstraintValidators(
                     validatorFactory = validatorFactory,
-                    annotationClazz = constraintDescriptor.annotation.annotationClass.java
+                    annotationClazz = annotation.annotationClass.java
                 )
                 if (set.isEmpty()) {
                     val configuration = context.path.toString().ifEmpty { clazz.simpleName }
                     throw UnexpectedTypeException(
-                        "No validator could be found for constraint '${constraintDescriptor.annotation.annotationClass}'" + " validating type '${clazz.name}'. " + "Check configuration for '$configuration'"
+                        "No validator could be found for constraint '${annotation.annotationClass}'" + " validating type '${clazz.name}'. " + "Check configuration for '$configuration'"
                     )
                 }
                 // find the first filtered validator
                 val filtered = set.filter(parametersValidationTargetFilter)
                     .map { it as ConstraintValidator<Annotation, Any> }
-                filtered.forEach { it.initialize(constraintDescriptor.annotation) }
+                filtered.forEach { it.initialize(annotation) }
                 filtered.toSet()
             }
 
@@ -0,0 +1,16 @@
+package angstromio.validation.internal
+
+import jakarta.validation.MessageInterpolator
+import java.util.*
+
+/** A [MessageInterpolator] which creates its underlying [MessageInterpolator] upon the first interpolation. */
+internal class LazyMessageInterpolator(factory: () -> MessageInterpolator) : MessageInterpolator {
+
+    private val underlying: MessageInterpolator by lazy(factory)
+
+    override fun interpolate(messageTemplate: String, context: MessageInterpolator.Context): String =
+        underlying.interpolate(messageTemplate, context)
+
+    override fun interpolate(messageTemplate: String, context: MessageInterpolator.Context, locale: Locale): String =
+        underlying.interpolate(messageTemplate, context, locale)
+}
@@ -0,0 +1,65 @@
+package angstromio.validation.internal
+
+import angstromio.validation.engine.CancellationToken
+import angstromio.validation.engine.ValidationLimits
+
+/**
+ * Accounts for the work of a single validation call against the configured [ValidationLimits] and its
+ * [CancellationToken]. Once a limit is exceeded or the token is cancelled the validation call stops visiting
+ * further properties, cascades, collection elements and `@PostConstructValidation` methods.
+ *
+ * @note not thread-safe, a budget is only ever used by the thread performing the validation call.
+ */
+internal class ValidationBudget(
+    private val limits: ValidationLimits,
+    private val cancellationToken: CancellationToken? = null
+) {
+
+    /** The limit which was exceeded, null while within all limits. */
+    var exceeded: ValidationLimits.Limit? = null
+        private set
+
+    /** True once the [CancellationToken] was found to be cancelled. */
+    var isCancelled: Boolean = false
+        private set
+
+    private var violations: Int = 0
+    private var nodesVisited: Int = 0
+
+    /** True if the validation call should stop, polls the [CancellationToken]. */
+    val isStopped: Boolean
+        get() {
+            if (exceeded != null || isCancelled) return true
+            if (cancellationToken != null && cancellationToken.isCancelled) isCancelled = true
+            return isCancelled
+        }
+
+    /** @return true if a cascaded data class instance at the given cascade depth may be validated. */
+    fun visit(depth: Int): Boolean = when {
+        isStopped -> false
+        depth > limits.maxDepth -> exceed(ValidationLimits.Limit.DEPTH)
+        nodesVisited >= limits.maxNodesVisited -> exceed(ValidationLimits.Limit.NODES_VISITED)
+        else -> {
+            nodesVisited += 1
+            true
+        }
+    }
+
+    /** @return true if the element at the given index of a cascaded collection may be validated. */
+    fun element(index: Int): Boolean = when {
+        isStopped -> false
+        index >= limits.maxCollectionElements -> exceed(ValidationLimits.Limit.COLLECTION_ELEMENTS)
+        else -> true
+    }
+
+    /** Record the given number of found violations. */
+    fun record(count: Int) {
+        violations += count
+        if (violations > limits.maxViolations && exceeded == null) exceed(ValidationLimits.Limit.VIOLATIONS)
+    }
+
+    private fun exceed(limit: ValidationLimits.Limit): Boolean {
+        if (exceeded == null) exceeded = limit
+        return false
+    }
+}
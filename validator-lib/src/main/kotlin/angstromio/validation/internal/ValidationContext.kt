@@ -9,5 +9,8 @@ internal data class ValidationContext<T : Any>(
     val root: T?,
     val leaf: Any?,
     val path: PathImpl,
-    val isFailFast: Boolean = false
-)
\ No newline at end of file
+    val isFailFast: Boolean = false,
+    val session: ValidationSession? = null,
+    val budget: ValidationBudget? = null,
+    val depth: Int = 0
+)
@@ -0,0 +1,37 @@
+package angstromio.validation.internal
+
+import jakarta.validation.ConstraintViolation
+import org.hibernate.validator.internal.engine.path.PathImpl
+import java.util.*
+
+/**
+ * State of a single validation call which tracks, by identity, the instances cascaded into. Allows for
+ * stopping at cycles in the validated object graph and for re-using the violations of an instance which
+ * is reachable through multiple paths.
+ *
+ * @note not thread-safe, a session is only ever used by the thread performing the validation call.
+ */
+internal class ValidationSession {
+
+    /**
+     * A visited instance.
+     *
+     * @param path the path at which the instance was first validated.
+     */
+    class Visit(val path: PathImpl) {
+        /** The violations of the instance at [path], null while the instance is being validated. */
+        var violations: Set<ConstraintViolation<*>>? = null
+    }
+
+    private val visits: IdentityHashMap<Any, Visit> = IdentityHashMap()
+
+    /** @return the [Visit] of the given instance or null if the instance has not been visited. */
+    fun get(instance: Any): Visit? = visits[instance]
+
+    /** Start the [Visit] of the given instance at the given path. */
+    fun start(instance: Any, path: PathImpl): Visit {
+        val visit = Visit(path)
+        visits[instance] = visit
+        return visit
+    }
+}
@@ -0,0 +1,98 @@
+package angstromio.validation.internal.engine
+
+import angstromio.validation.constraints.CacheableValidation
+import angstromio.validation.constraints.PostConstructValidation
+import angstromio.validation.internal.metadata.KotlinMetadata
+import java.lang.reflect.Modifier
+import java.math.BigDecimal
+import java.math.BigInteger
+import java.time.Duration
+import java.time.Instant
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.LocalTime
+import java.time.MonthDay
+import java.time.OffsetDateTime
+import java.time.OffsetTime
+import java.time.Period
+import java.time.Year
+import java.time.YearMonth
+import java.time.ZoneId
+import java.time.ZonedDateTime
+import java.util.*
+
+/** Determines whether the validation results of a data class can be cached by instance equality. */
+internal object CacheableClasses {
+
+    private val ImmutableTypes: Set<Class<*>> = setOf(
+        String::class.java,
+        java.lang.Boolean::class.java,
+        java.lang.Byte::class.java,
+        java.lang.Short::class.java,
+        java.lang.Character::class.java,
+        java.lang.Integer::class.java,
+        java.lang.Long::class.java,
+        java.lang.Float::class.java,
+        java.lang.Double::class.java,
+        BigDecimal::class.java,
+        BigInteger::class.java,
+        UUID::class.java,
+        Currency::class.java,
+        Locale::class.java,
+        Duration::class.java,
+        Instant::class.java,
+        LocalDate::class.java,
+        LocalDateTime::class.java,
+        LocalTime::class.java,
+        MonthDay::class.java,
+        OffsetDateTime::class.java,
+        OffsetTime::class.java,
+        Period::class.java,
+        Year::class.java,
+        YearMonth::class.java,
+        ZoneId::class.java,
+        ZonedDateTime::class.java
+    )
+
+    /**
+     * A data class is cacheable when all of its fields are final and of a deeply immutable type, i.e., a primitive,
+     * an enum, a well-known immutable JDK type or another cacheable data class, and it declares no
+     * [PostConstructValidation] methods unless it is annotated with [CacheableValidation]. The annotation attests
+     * the purity of the methods, never the immutability of the class, as a mutated instance would corrupt the cache.
+     */
+    fun isCacheable(clazz: Class<*>): Boolean = isCacheable(clazz, mutableSetOf())
+
+    private fun isCacheable(clazz: Class<*>, visited: MutableSet<Class<*>>): Boolean =
+        when {
+            !KotlinMetadata.isDataClass(clazz) -> false
+            // a cycle, the class is cacheable if the rest of its fields are
+            !visited.add(clazz) -> true
+            !clazz.isAnnotationPresent(CacheableValidation::class.java) &&
+                    hasPostConstructValidationMethods(clazz) -> false
+            else -> hasImmutableFields(clazz, visited)
+        }
+
+    private fun hasPostConstructValidationMethods(clazz: Class<*>): Boolean =
+        clazz.methods.any { it.isAnnotationPresent(PostConstructValidation::class.java) }
+
+    private fun hasImmutableFields(clazz: Class<*>, visited: MutableSet<Class<*>>): Boolean {
+        var current: Class<*>? = clazz
+        while (current != null && current != Any::class.java) {
+            val fields = current.declaredFields
+            var index = 0
+            while (index < fields.size) {
+                val field = fields[index]
+                val modifiers = field.modifiers
+                if (!Modifier.isStatic(modifiers) && !field.isSynthetic) {
+                    if (!Modifier.isFinal(modifiers) || !isImmutableType(field.type, visited)) return false
+                }
+                index += 1
+            }
+            current = current.superclass
+        }
+        return true
+    }
+
+    private fun isImmutableType(clazz: Class<*>, visited: MutableSet<Class<*>>): Boolean =
+        clazz.isPrimitive || clazz.isEnum || ImmutableTypes.contains(clazz) || isCacheable(clazz, visited)
+}
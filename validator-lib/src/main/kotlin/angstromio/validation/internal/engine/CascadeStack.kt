@@ -0,0 +1,227 @@
+package angstromio.validation.internal.engine
+
+import angstromio.validation.internal.ValidationContext
+import angstromio.validation.internal.ValidationSession
+import jakarta.validation.ConstraintViolation
+import jakarta.validation.metadata.BeanDescriptor
+
+/**
+ * The explicit stack of a cascaded validation, holding a [CascadeFrame] per data class instance being validated
+ * such that the depth of a validated object graph is not limited by the depth of the thread stack.
+ *
+ * The stack and its frames are pooled per thread and re-used across validation calls. A validation call which
+ * re-enters the validator on the same thread, e.g., from a `@PostConstructValidation` method, pushes its frames
+ * above the frames of the outer validation call and pops them before returning.
+ */
+internal class CascadeStack private constructor() {
+
+    companion object {
+        private const val INITIAL_CAPACITY: Int = 16
+
+        private val Local: ThreadLocal<CascadeStack> = ThreadLocal.withInitial { CascadeStack() }
+
+        /** @return the [CascadeStack] of the current thread. */
+        fun local(): CascadeStack = Local.get()
+    }
+
+    private var frames: Array<CascadeFrame?> = arrayOfNulls(INITIAL_CAPACITY)
+
+    /** The number of frames on the stack. */
+    var size: Int = 0
+        private set
+
+    /** @return a cleared frame pushed onto the stack. */
+    fun push(): CascadeFrame {
+        if (size == frames.size) frames = frames.copyOf(size * 2)
+        val frame = frames[size] ?: CascadeFrame().also { frames[size] = it }
+        size += 1
+        return frame
+    }
+
+    /** @return the frame on top of the stack. */
+    fun peek(): CascadeFrame = frames[size - 1]!!
+
+    /** Pop and clear the frame on top of the stack. */
+    fun pop() {
+        size -= 1
+        frames[size]!!.clear()
+    }
+
+    /** Pop and clear frames until the stack holds the given number of frames. */
+    fun popTo(size: Int) {
+        while (this.size > size) pop()
+    }
+}
+
+/**
+ * The state of validating a single data class instance: the property or, when failing fast, the [ConstraintNode]
+ * being validated, the cascade of the property into its value or the elements of its value, and the violations
+ * found so far. A frame without a [plan] only cascades into the value of a property or parameter which is
+ * validated on its own.
+ *
+ * The constraints of a cascaded data class which redefines its default group sequence are validated in the steps
+ * of the sequence, see [groupSteps], while its cascades are validated once with the requested [cascadeGroups].
+ */
+internal class CascadeFrame {
+
+    companion object {
+        /** Larger violation lists are not retained when the frame is cleared. */
+        private const val MAX_RETAINED_CAPACITY: Int = 256
+    }
+
+    var context: ValidationContext<*>? = null
+
+    /** The plan of the data class of [value], null for a frame which only cascades into [value]. */
+    var plan: DataClassPlan? = null
+    var value: Any? = null
+
+    /** The [ValidationSession.Visit] of [value] which receives its violations, null for the root of the stack. */
+    var visit: ValidationSession.Visit? = null
+
+    /** The groups of the constraints of [value] in the current step. */
+    var groups: Groups? = null
+        private set
+
+    /** The requested groups, which are propagated to the cascades of [value]. */
+    var cascadeGroups: Groups? = null
+        private set
+
+    /** The groups of each step of the redefined default group sequence of [value], null if not redefined. */
+    var groupSteps: List<Groups>? = null
+        private set
+    var groupStepIndex: Int = 0
+        private set
+
+    /** The number of [results] reported by the cascades of [value] rather than by its constraints. */
+    var cascadedViolations: Int = 0
+        private set
+
+    /** The index of the property being validated in [DataClassPlan.properties]. */
+    var propertyIndex: Int = 0
+
+    /** The [DataClassPlan.failFastOrder] of a fail-fast [context], null when validating all properties. */
+    var constraintNodes: Array<ConstraintNode>? = null
+        private set
+
+    /** The index of the node being validated in [constraintNodes]. */
+    var constraintNodeIndex: Int = 0
+
+    /** The [System.nanoTime] at which the cascade of a [ConstraintNode.Kind.CASCADE] node started. */
+    var constraintNodeStart: Long = 0L
+
+    var results: ArrayList<ConstraintViolation<*>> = ArrayList()
+        private set
+
+    /** True while the property at [propertyIndex] is being cascaded into. */
+    var isCascading: Boolean = false
+        private set
+
+    /** The context of the cascaded property, the path of which ends with the property. */
+    var cascadeContext: ValidationContext<*>? = null
+        private set
+    var cascadeDescriptor: BeanDescriptor? = null
+        private set
+
+    /** The [groupSteps] of the frames of the cascaded instances. */
+    var cascadeGroupSteps: List<Groups>? = null
+        private set
+
+    /** The elements of a cascaded collection, null when cascading into a single value. */
+    var cascadeIterator: Iterator<*>? = null
+        private set
+    var cascadeValue: Any? = null
+        private set
+
+    /** The index of the next cascaded element. */
+    var cascadeIndex: Int = 0
+
+    /** True unless a later step of the [groupSteps] is validated, in which the cascades are not validated again. */
+    val isCascadable: Boolean
+        get() = groupStepIndex == 0
+
+    fun set(
+        context: ValidationContext<*>,
+        plan: DataClassPlan?,
+        value: Any?,
+        visit: ValidationSession.Visit?,
+        groups: Groups,
+        groupSteps: List<Groups>?
+    ) {
+        this.context = context
+        this.plan = plan
+        this.value = value
+        this.visit = visit
+        this.groups = groupSteps?.first() ?: groups
+        this.cascadeGroups = groups
+        this.groupSteps = groupSteps
+        this.constraintNodes = if (plan != null && context.isFailFast) plan.failFastOrder() else null
+    }
+
+    /** Add the violations of a cascaded instance. */
+    fun addCascaded(violations: Collection<ConstraintViolation<*>>) {
+        results.addAll(violations)
+        cascadedViolations += violations.size
+    }
+
+    /**
+     * Advances to the next step of the [groupSteps], to validate the constraints of [value] again with the groups
+     * of the step, unless the current step reported a violation or was the last.
+     *
+     * @return true if the frame advanced to the next step.
+     */
+    fun nextGroupStep(): Boolean {
+        val groupSteps = this.groupSteps ?: return false
+        // a fail-fast frame stops at any violation, including those of its cascades
+        val isFailed = if (constraintNodes != null) results.isNotEmpty() else results.size > cascadedViolations
+        if (isFailed || groupStepIndex + 1 >= groupSteps.size) return false
+        groupStepIndex += 1
+        groups = groupSteps[groupStepIndex]
+        propertyIndex = 0
+        constraintNodeIndex = 0
+        return true
+    }
+
+    fun startCascade(
+        context: ValidationContext<*>,
+        descriptor: BeanDescriptor,
+        groupSteps: List<Groups>?,
+        iterator: Iterator<*>?,
+        value: Any?
+    ) {
+        this.isCascading = true
+        this.cascadeContext = context
+        this.cascadeDescriptor = descriptor
+        this.cascadeGroupSteps = groupSteps
+        this.cascadeIterator = iterator
+        this.cascadeValue = value
+        this.cascadeIndex = 0
+    }
+
+    fun endCascade() {
+        this.isCascading = false
+        this.cascadeContext = null
+        this.cascadeDescriptor = null
+        this.cascadeGroupSteps = null
+        this.cascadeIterator = null
+        this.cascadeValue = null
+        this.cascadeIndex = 0
+    }
+
+    fun clear() {
+        endCascade()
+        this.context = null
+        this.plan = null
+        this.value = null
+        this.visit = null
+        this.groups = null
+        this.cascadeGroups = null
+        this.groupSteps = null
+        this.groupStepIndex = 0
+        this.cascadedViolations = 0
+        this.propertyIndex = 0
+        this.constraintNodes = null
+        this.constraintNodeIndex = 0
+        this.constraintNodeStart = 0L
+        if (results.size > MAX_RETAINED_CAPACITY) results = ArrayList() else results.clear()
+    }
+}
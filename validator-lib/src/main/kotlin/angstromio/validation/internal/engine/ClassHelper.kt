@@ -1,7 +1,13 @@
 package angstromio.validation.internal.engine
 
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+
 internal object ClassHelper {
 
+    private val ObjectAccessorType: MethodType = MethodType.methodType(Any::class.java, Any::class.java)
+
     private fun mkGetterName(name: String): String {
         return if (name.startsWith("get")) {
             name
@@ -35,4 +41,26 @@ internal object ClassHelper {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolve an accessor for the named field of the given class as a `(Object)Object` [MethodHandle],
+     * resolved the same way as [getFieldValue]: a public field, otherwise a declared getter method.
+     *
+     * @return the accessor or null if the field cannot be resolved.
+     */
+    fun findFieldAccessor(clazz: Class<*>, name: String): MethodHandle? {
+        val lookup = MethodHandles.lookup()
+        return try {
+            lookup.unreflectGetter(clazz.getField(name)).asType(ObjectAccessorType)
+        } catch (e: Exception) {
+            // try method accessor
+            try {
+                val method = clazz.getDeclaredMethod(mkGetterName(name))
+                method.trySetAccessible()
+                lookup.unreflect(method).asType(ObjectAccessorType)
+            } catch (e: Exception) {
+                null
+            }
+        }
+    }
+}
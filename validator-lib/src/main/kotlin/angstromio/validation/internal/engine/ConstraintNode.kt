@@ -0,0 +1,124 @@
+package angstromio.validation.internal.engine
+
+import angstromio.validation.constraints.ConstraintCost
+import jakarta.validation.constraints.AssertFalse
+import jakarta.validation.constraints.AssertTrue
+import jakarta.validation.constraints.DecimalMax
+import jakarta.validation.constraints.DecimalMin
+import jakarta.validation.constraints.Digits
+import jakarta.validation.constraints.Email
+import jakarta.validation.constraints.Max
+import jakarta.validation.constraints.Min
+import jakarta.validation.constraints.Negative
+import jakarta.validation.constraints.NegativeOrZero
+import jakarta.validation.constraints.NotBlank
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.NotNull
+import jakarta.validation.constraints.Null
+import jakarta.validation.constraints.Pattern
+import jakarta.validation.constraints.Positive
+import jakarta.validation.constraints.PositiveOrZero
+import jakarta.validation.constraints.Size
+import jakarta.validation.metadata.ConstraintDescriptor
+import java.lang.reflect.Method
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * A unit of fail-fast evaluation of a data class: a single property constraint, the cascaded validation of a
+ * property, a `@PostConstructValidation` method or a single class-level constraint. Tracks the observed evaluation
+ * time and failure rate of the unit in order to order the evaluation of the units of a data class.
+ *
+ * @param kind                    the [Kind] of the node.
+ * @param property                the property of a [Kind.PROPERTY_CONSTRAINT] or [Kind.CASCADE] node.
+ * @param index                   the index of the constraint of a [Kind.PROPERTY_CONSTRAINT] or [Kind.CLASS_CONSTRAINT]
+ *                                node, in [DataClassPlan.PropertyPlan.constraints] or [DataClassPlan.constraints].
+ * @param postConstructValidation the method of a [Kind.POST_CONSTRUCT_VALIDATION] node.
+ * @param constraintDescriptor    the constraint of the node, null for a [Kind.CASCADE] node.
+ * @param groupsMask              the [GroupRegistry] mask of the groups of the constraint.
+ * @param declaredCost            the [ConstraintCost] of the node.
+ */
+internal class ConstraintNode(
+    val kind: Kind,
+    val property: DataClassPlan.PropertyPlan?,
+    val index: Int,
+    val postConstructValidation: DataClassPlan.PostConstructValidationPlan?,
+    private val constraintDescriptor: ConstraintDescriptor<*>?,
+    private val groupsMask: Long,
+    private val declaredCost: Int
+) {
+
+    enum class Kind { PROPERTY_CONSTRAINT, CASCADE, POST_CONSTRUCT_VALIDATION, CLASS_CONSTRAINT }
+
+    companion object {
+        /** The number of evaluations after which the observed evaluation time replaces the declared cost. */
+        private const val MIN_OBSERVED_EVALUATIONS: Long = 32
+
+        /** The declared costs of the built-in constraints, which cannot be annotated with a [ConstraintCost]. */
+        private val BuiltInCosts: Map<Class<out Annotation>, Int> = mapOf(
+            Null::class.java to ConstraintCost.CHEAP,
+            NotNull::class.java to ConstraintCost.CHEAP,
+            NotEmpty::class.java to ConstraintCost.CHEAP,
+            NotBlank::class.java to ConstraintCost.CHEAP,
+            AssertTrue::class.java to ConstraintCost.CHEAP,
+            AssertFalse::class.java to ConstraintCost.CHEAP,
+            Size::class.java to ConstraintCost.CHEAP,
+            Min::class.java to ConstraintCost.CHEAP,
+            Max::class.java to ConstraintCost.CHEAP,
+            Positive::class.java to ConstraintCost.CHEAP,
+            PositiveOrZero::class.java to ConstraintCost.CHEAP,
+            Negative::class.java to ConstraintCost.CHEAP,
+            NegativeOrZero::class.java to ConstraintCost.CHEAP,
+            DecimalMin::class.java to ConstraintCost.CHEAP,
+            DecimalMax::class.java to ConstraintCost.CHEAP,
+            Digits::class.java to ConstraintCost.CHEAP,
+            Pattern::class.java to ConstraintCost.EXPENSIVE,
+            Email::class.java to ConstraintCost.EXPENSIVE
+        )
+
+        /** @return the declared cost of the given constraint annotation type. */
+        fun costOf(annotationClazz: Class<out Annotation>): Int =
+            annotationClazz.getAnnotation(ConstraintCost::class.java)?.value
+                ?: BuiltInCosts[annotationClazz]
+                ?: ConstraintCost.DEFAULT
+
+        /** @return the declared cost of the given `@PostConstructValidation` method, expensive unless declared. */
+        fun costOf(method: Method): Int =
+            method.getAnnotation(ConstraintCost::class.java)?.value ?: ConstraintCost.EXPENSIVE
+    }
+
+    private val evaluations: LongAdder = LongAdder()
+    private val failures: LongAdder = LongAdder()
+    private val elapsedNanos: LongAdder = LongAdder()
+
+    /** @return true if the node is evaluated for the given groups. */
+    fun isEnabled(groups: Groups): Boolean =
+        constraintDescriptor == null || groups.isEnabled(constraintDescriptor.groups, groupsMask)
+
+    /** Record an evaluation of the node. */
+    fun record(elapsedNanos: Long, failed: Boolean) {
+        this.evaluations.increment()
+        this.elapsedNanos.add(elapsedNanos)
+        if (failed) this.failures.increment()
+    }
+
+    /** True when enough evaluations of the node have been observed for its evaluation time to be its cost. */
+    val isObserved: Boolean
+        get() = evaluations.sum() >= MIN_OBSERVED_EVALUATIONS
+
+    /**
+     * The expected cost of evaluating the node divided by the probability that it fails, evaluating nodes in
+     * ascending order of their score minimizes the expected cost of finding the first failing node.
+     *
+     * @param isObserved whether the cost is the observed mean evaluation time in nanoseconds rather than the unitless
+     *                   declared cost. The two are not comparable, thus the same for all the nodes of a plan.
+     */
+    fun score(isObserved: Boolean): Double {
+        val evaluations = this.evaluations.sum()
+        val cost =
+            if (!isObserved || evaluations == 0L) declaredCost.toDouble()
+            else elapsedNanos.sum().toDouble() / evaluations
+        // Laplace smoothed, an unobserved node fails half the time
+        val failureRate = (failures.sum() + 1).toDouble() / (evaluations + 2)
+        return cost / failureRate
+    }
+}
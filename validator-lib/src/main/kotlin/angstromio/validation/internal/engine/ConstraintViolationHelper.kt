@@ -4,6 +4,8 @@ import angstromio.validation.constraints.PostConstructValidation
 import jakarta.validation.ConstraintValidatorContext
 import jakarta.validation.ConstraintViolation
 import jakarta.validation.ConstraintViolationException
+import jakarta.validation.ElementKind
+import jakarta.validation.Path
 import jakarta.validation.Payload
 import jakarta.validation.metadata.ConstraintDescriptor
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl
@@ -74,6 +76,74 @@ internal class ConstraintViolationHelper(private val validatorFactory: Validator
             payload = payload
         )
 
+    /**
+     * Return a copy of the given [ConstraintViolation] with the given root bean. A leaf bean which was
+     * the root bean of the given violation is also replaced with the given root bean.
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun <T : Any> newReRootedConstraintViolation(
+        violation: ConstraintViolation<T>,
+        root: T
+    ): ConstraintViolation<T> {
+        val violationImpl = violation as ConstraintViolationImpl<T>
+        return ConstraintViolationImpl.forBeanValidation(
+            violationImpl.messageTemplate,
+            violationImpl.messageParameters,
+            violationImpl.expressionVariables,
+            violationImpl.message,
+            root.javaClass,
+            root,
+            if (violationImpl.leafBean === violationImpl.rootBean) root else violationImpl.leafBean,
+            violationImpl.invalidValue,
+            violationImpl.propertyPath as PathImpl,
+            violationImpl.constraintDescriptor,
+            violationImpl.getDynamicPayload(Any::class.java)
+        )
+    }
+
+    /**
+     * Return a copy of the given [ConstraintViolation] moved from a previous path of its leaf bean to another path,
+     * i.e., with the given `fromPath` prefix of its property path replaced by the given `toPath`.
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun <T : Any> newRelocatedConstraintViolation(
+        violation: ConstraintViolation<T>,
+        fromPath: PathImpl,
+        toPath: PathImpl
+    ): ConstraintViolation<T> {
+        val violationImpl = violation as ConstraintViolationImpl<T>
+        val path = PathImpl.createCopy(toPath)
+        val iterator = violationImpl.propertyPath.iterator()
+        // skip the nodes of the previous path
+        var index = 0
+        val length = fromPath.count()
+        while (index < length && iterator.hasNext()) {
+            iterator.next()
+            index += 1
+        }
+        while (iterator.hasNext()) {
+            val node = iterator.next()
+            if (node.kind == ElementKind.PARAMETER) {
+                path.addParameterNode(node.name, node.`as`(Path.ParameterNode::class.java).parameterIndex)
+            } else {
+                path.addPropertyNode(node.name)
+            }
+        }
+        return ConstraintViolationImpl.forBeanValidation(
+            violationImpl.messageTemplate,
+            violationImpl.messageParameters,
+            violationImpl.expressionVariables,
+            violationImpl.message,
+            violationImpl.rootBeanClass,
+            violationImpl.rootBean,
+            violationImpl.leafBean,
+            violationImpl.invalidValue,
+            path,
+            violationImpl.constraintDescriptor,
+            violationImpl.getDynamicPayload(Any::class.java)
+        )
+    }
+
     /**
      * Performs message interpolation given the constraint descriptor and constraint validator context
      * to create a set of [[ConstraintViolation]] from the given context and parameters.
@@ -0,0 +1,340 @@
+package angstromio.validation.internal.engine
+
+import angstromio.util.control.NonFatal
+import angstromio.util.extensions.Annotations.eq
+import angstromio.validation.constraints.ConstraintCost
+import angstromio.validation.constraints.PostConstructValidation
+import angstromio.validation.engine.PostConstructValidationResult
+import angstromio.validation.internal.metadata.descriptor.LazyBeanDescriptor
+import jakarta.validation.ValidationException
+import jakarta.validation.metadata.BeanDescriptor
+import jakarta.validation.metadata.ConstraintDescriptor
+import jakarta.validation.metadata.MethodType
+import jakarta.validation.metadata.PropertyDescriptor
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.reflect.Field
+import java.lang.reflect.Method
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * A pre-computed validation plan for a data class which captures everything about validating its
+ * constrained properties that does not depend on a validated instance, e.g., accessible [Field]s
+ * and primitive constraint checks, such that this work is performed once per class and not on
+ * every validation.
+ *
+ * @param descriptor               the [BeanDescriptor] of the data class.
+ * @param constraints              the class-level constraints of the data class.
+ * @param constraintGroupsMasks    the [GroupRegistry] mask of the groups of each of the [constraints].
+ * @param properties               a [PropertyPlan] per constrained property in [BeanDescriptor.getConstrainedProperties] order.
+ * @param postConstructValidations a [PostConstructValidationPlan] per `@PostConstructValidation` annotated method.
+ * @param constraintNodes          the [ConstraintNode]s evaluated by fail-fast validation.
+ */
+internal class DataClassPlan(
+    val descriptor: BeanDescriptor,
+    val constraints: Array<ConstraintDescriptorImpl<Annotation>>,
+    val constraintGroupsMasks: LongArray,
+    val properties: Array<PropertyPlan>,
+    val postConstructValidations: Array<PostConstructValidationPlan>,
+    private val constraintNodes: Array<ConstraintNode>
+) {
+
+    private val evaluationsSinceOrdering: AtomicInteger = AtomicInteger(0)
+
+    @Volatile
+    private var orderedConstraintNodes: Array<ConstraintNode> = order(constraintNodes)
+
+    /**
+     * @return the [ConstraintNode]s in ascending order of their [ConstraintNode.score], which is periodically
+     *         updated from the observed evaluations of the nodes.
+     */
+    fun failFastOrder(): Array<ConstraintNode> {
+        if (evaluationsSinceOrdering.incrementAndGet() >= REORDER_INTERVAL) {
+            evaluationsSinceOrdering.set(0)
+            orderedConstraintNodes = order(constraintNodes)
+        }
+        return orderedConstraintNodes
+    }
+
+    /**
+     * @return the given nodes in ascending order of their score, by declared cost until every node has been
+     *         observed, as declared costs and observed evaluation times are on different scales.
+     */
+    private fun order(nodes: Array<ConstraintNode>): Array<ConstraintNode> {
+        var isObserved = true
+        var index = 0
+        while (index < nodes.size && isObserved) {
+            isObserved = nodes[index].isObserved
+            index += 1
+        }
+        val ordered = nodes.copyOf()
+        val scores = DoubleArray(nodes.size)
+        index = 0
+        while (index < nodes.size) {
+            scores[index] = nodes[index].score(isObserved)
+            index += 1
+        }
+        // a stable insertion sort, plans have few nodes
+        index = 1
+        while (index < ordered.size) {
+            val node = ordered[index]
+            val score = scores[index]
+            var position = index - 1
+            while (position >= 0 && scores[position] > score) {
+                ordered[position + 1] = ordered[position]
+                scores[position + 1] = scores[position]
+                position -= 1
+            }
+            ordered[position + 1] = node
+            scores[position + 1] = score
+            index += 1
+        }
+        return ordered
+    }
+
+    /**
+     * @param descriptor                the [PropertyDescriptor] of the property.
+     * @param field                     the accessible backing [Field] of the property.
+     * @param constraints               the constraints of the property.
+     * @param constraintGroupsMasks     the [GroupRegistry] mask of the groups of each of the [constraints].
+     * @param primitiveConstraintChecks a [PrimitiveConstraintCheck] per constraint of the property, in [constraints]
+     *                                  order, when every constraint of the property supports a primitive fast path,
+     *                                  otherwise null.
+     */
+    class PropertyPlan(
+        val descriptor: PropertyDescriptor,
+        private val field: Field,
+        val constraints: Array<ConstraintDescriptorImpl<Annotation>>,
+        val constraintGroupsMasks: LongArray,
+        val primitiveConstraintChecks: Array<PrimitiveConstraintCheck>?
+    ) {
+        fun getValue(instance: Any?): Any? =
+            if (instance == null) null
+            else try {
+                field.get(instance)
+            } catch (e: Exception) {
+                if (NonFatal.isNonFatal(e)) throw ValidationException(e)
+                else throw e
+            }
+    }
+
+    /**
+     * @param method               the `@PostConstructValidation` annotated [Method].
+     * @param constraintDescriptor the descriptor of the `@PostConstructValidation` constraint.
+     * @param groupsMask           the [GroupRegistry] mask of the groups of the constraint.
+     * @param methodHandle         a `(Object)Object` [MethodHandle] of the method.
+     * @param fields               the non-empty [PostConstructValidation.fields] of the constraint.
+     * @param fieldAccessors       a `(Object)Object` [MethodHandle] per field, null if the field cannot be resolved.
+     */
+    class PostConstructValidationPlan(
+        val method: Method,
+        val constraintDescriptor: ConstraintDescriptorImpl<PostConstructValidation>,
+        val groupsMask: Long,
+        private val methodHandle: MethodHandle,
+        val fields: Array<String>,
+        private val fieldAccessors: Array<MethodHandle?>
+    ) {
+        /** Invoke the method on the given instance, exceptions thrown by the method are not wrapped. */
+        fun invoke(instance: Any): PostConstructValidationResult =
+            methodHandle.invoke(instance) as PostConstructValidationResult
+
+        /** @return the value of the field at the given index of [fields] or null if it cannot be read. */
+        fun getFieldValue(instance: Any, index: Int): Any? =
+            fieldAccessors[index].let { accessor ->
+                if (accessor == null) null
+                else try {
+                    accessor.invoke(instance)
+                } catch (e: Exception) {
+                    null
+                }
+            }
+    }
+
+    companion object {
+        /** The number of fail-fast validations of a data class after which its constraint nodes are re-ordered. */
+        private const val REORDER_INTERVAL: Int = 1024
+
+        /**
+         * Build a [DataClassPlan] for the given [BeanDescriptor].
+         *
+         * @param descriptor           the [BeanDescriptor] to plan.
+         * @param isPrimitiveCheckable whether a constraint annotation type is only ever validated by the built-in
+         *                             validators and thus safe to evaluate with a [PrimitiveConstraintCheck].
+         * @param groupRegistry        the [GroupRegistry] of the validator.
+         */
+        fun of(
+            descriptor: BeanDescriptor,
+            isPrimitiveCheckable: (Class<out Annotation>) -> Boolean,
+            groupRegistry: GroupRegistry
+        ): DataClassPlan {
+            val clazz = descriptor.elementClass
+            val properties = descriptor.constrainedProperties.map { propertyDescriptor ->
+                val field = try {
+                    clazz.getDeclaredField(propertyDescriptor.propertyName).also { it.isAccessible = true }
+                } catch (e: Exception) {
+                    if (NonFatal.isNonFatal(e)) throw ValidationException(e)
+                    else throw e
+                }
+                val constraints = constraints(propertyDescriptor.constraintDescriptors)
+                PropertyPlan(
+                    descriptor = propertyDescriptor,
+                    field = field,
+                    constraints = constraints,
+                    constraintGroupsMasks = groupsMasks(constraints, groupRegistry),
+                    primitiveConstraintChecks = primitiveConstraintChecks(
+                        field,
+                        propertyDescriptor,
+                        constraints,
+                        isPrimitiveCheckable
+                    )
+                )
+            }
+            val constraints = constraints(descriptor.constraintDescriptors)
+            val constraintGroupsMasks = groupsMasks(constraints, groupRegistry)
+            val postConstructValidations = postConstructValidations(descriptor, groupRegistry)
+            return DataClassPlan(
+                descriptor = descriptor,
+                constraints = constraints,
+                constraintGroupsMasks = constraintGroupsMasks,
+                properties = properties.toTypedArray(),
+                postConstructValidations = postConstructValidations.toTypedArray(),
+                constraintNodes = constraintNodes(
+                    constraints,
+                    constraintGroupsMasks,
+                    properties,
+                    postConstructValidations
+                ).toTypedArray()
+            )
+        }
+
+        private fun constraintNodes(
+            constraints: Array<ConstraintDescriptorImpl<Annotation>>,
+            constraintGroupsMasks: LongArray,
+            properties: List<PropertyPlan>,
+            postConstructValidations: List<PostConstructValidationPlan>
+        ): List<ConstraintNode> {
+            val nodes = mutableListOf<ConstraintNode>()
+            properties.forEach { propertyPlan ->
+                propertyPlan.constraints.forEachIndexed { index, constraintDescriptor ->
+                    nodes.add(
+                        ConstraintNode(
+                            kind = ConstraintNode.Kind.PROPERTY_CONSTRAINT,
+                            property = propertyPlan,
+                            index = index,
+                            postConstructValidation = null,
+                            constraintDescriptor = constraintDescriptor,
+                            groupsMask = propertyPlan.constraintGroupsMasks[index],
+                            declaredCost = ConstraintNode.costOf(constraintDescriptor.annotation.annotationClass.java)
+                        )
+                    )
+                }
+                if (propertyPlan.descriptor.isCascaded) {
+                    nodes.add(
+                        ConstraintNode(
+                            kind = ConstraintNode.Kind.CASCADE,
+                            property = propertyPlan,
+                            index = -1,
+                            postConstructValidation = null,
+                            constraintDescriptor = null,
+                            groupsMask = 0L,
+                            declaredCost = ConstraintCost.EXPENSIVE
+                        )
+                    )
+                }
+            }
+            postConstructValidations.forEach { postConstructValidation ->
+                nodes.add(
+                    ConstraintNode(
+                        kind = ConstraintNode.Kind.POST_CONSTRUCT_VALIDATION,
+                        property = null,
+                        index = -1,
+                        postConstructValidation = postConstructValidation,
+                        constraintDescriptor = postConstructValidation.constraintDescriptor,
+                        groupsMask = postConstructValidation.groupsMask,
+                        declaredCost = ConstraintNode.costOf(postConstructValidation.method)
+                    )
+                )
+            }
+            constraints.forEachIndexed { index, constraintDescriptor ->
+                nodes.add(
+                    ConstraintNode(
+                        kind = ConstraintNode.Kind.CLASS_CONSTRAINT,
+                        property = null,
+                        index = index,
+                        postConstructValidation = null,
+                        constraintDescriptor = constraintDescriptor,
+                        groupsMask = constraintGroupsMasks[index],
+                        declaredCost = ConstraintNode.costOf(constraintDescriptor.annotation.annotationClass.java)
+                    )
+                )
+            }
+            return nodes
+        }
+
+        @Suppress("UNCHECKED_CAST")
+        private fun constraints(constraintDescriptors: Set<ConstraintDescriptor<*>>): Array<ConstraintDescriptorImpl<Annotation>> =
+            constraintDescriptors.map { it as ConstraintDescriptorImpl<Annotation> }.toTypedArray()
+
+        private fun groupsMasks(
+            constraints: Array<ConstraintDescriptorImpl<Annotation>>,
+            groupRegistry: GroupRegistry
+        ): LongArray = LongArray(constraints.size) { index -> groupRegistry.maskOf(constraints[index].groups) }
+
+        @Suppress("UNCHECKED_CAST")
+        private fun postConstructValidations(
+            descriptor: BeanDescriptor,
+            groupRegistry: GroupRegistry
+        ): List<PostConstructValidationPlan> {
+            val clazz = descriptor.elementClass
+            val lookup = MethodHandles.lookup()
+            // do not build all method descriptors of a LazyBeanDescriptor to find its @PostConstructValidation methods
+            val methodDescriptors =
+                if (descriptor is LazyBeanDescriptor) descriptor.postConstructValidationMethods
+                else descriptor.getConstrainedMethods(MethodType.NON_GETTER)
+            return methodDescriptors.mapNotNull { methodDescriptor ->
+                val constraintDescriptor = methodDescriptor.returnValueDescriptor
+                    ?.constraintDescriptors
+                    ?.find { it.annotation.eq<PostConstructValidation>() } as? ConstraintDescriptorImpl<PostConstructValidation>
+                if (constraintDescriptor == null) null
+                else {
+                    val method = clazz.getMethod(
+                        /* name                 = */
+                        methodDescriptor.name,
+                        /* ...parameterTypes    = */
+                        *methodDescriptor.parameterDescriptors.map { it.elementClass }.toTypedArray()
+                    )
+                    method.trySetAccessible()
+                    val fields = constraintDescriptor.annotation.fields.filter { it.isNotEmpty() }
+                    PostConstructValidationPlan(
+                        method = method,
+                        constraintDescriptor = constraintDescriptor,
+                        groupsMask = groupRegistry.maskOf(constraintDescriptor.groups),
+                        methodHandle = lookup.unreflect(method).asType(
+                            java.lang.invoke.MethodType.methodType(Any::class.java, Any::class.java)
+                        ),
+                        fields = fields.toTypedArray(),
+                        fieldAccessors = fields.map { ClassHelper.findFieldAccessor(clazz, it) }.toTypedArray()
+                    )
+                }
+            }
+        }
+
+        private fun primitiveConstraintChecks(
+            field: Field,
+            propertyDescriptor: PropertyDescriptor,
+            constraints: Array<ConstraintDescriptorImpl<Annotation>>,
+            isPrimitiveCheckable: (Class<out Annotation>) -> Boolean
+        ): Array<PrimitiveConstraintCheck>? {
+            if (!field.type.isPrimitive || propertyDescriptor.isCascaded) return null
+            if (constraints.isEmpty()) return null
+            val checks = constraints.map { constraintDescriptor ->
+                val annotationClazz = constraintDescriptor.annotation.annotationClass.java
+                if (!isPrimitiveCheckable(annotationClazz) ||
+                    constraintDescriptor.composingConstraints.isNotEmpty()) return null
+                PrimitiveConstraintCheck.of(field, constraintDescriptor) ?: return null
+            }
+            return checks.toTypedArray()
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package angstromio.validation.internal.engine
+
+import arrow.core.memoize
+import java.lang.instrument.Instrumentation
+import java.lang.reflect.Field
+import java.lang.reflect.Member
+import java.lang.reflect.Modifier
+import java.lang.reflect.Type
+import java.util.ArrayDeque
+import java.util.Collections
+import java.util.Deque
+import java.util.IdentityHashMap
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.reflect.KAnnotatedElement
+import kotlin.reflect.KType
+
+/**
+ * Estimates the heap retained by object graphs, e.g., the cached metadata of a validator. Objects are counted once
+ * across all the calls to [sizeOf] of an estimator, i.e., an object reachable from several roots is only counted for
+ * the first of them.
+ *
+ * The shallow size of an object is measured with the given [Instrumentation] when present, otherwise it is estimated
+ * from its fields assuming compressed references. The graph is walked through the fields of classes which are open
+ * to this library; the internals of JDK collections and maps are not, thus their elements are walked through their
+ * public API and their nodes estimated.
+ *
+ * Classes, reflection objects, annotations, enum constants and Kotlin reflection objects are owned by the JVM or by
+ * the application and are never counted, nor are the given boundary objects and what is only reachable through them.
+ *
+ * @param instrumentation the [Instrumentation] measuring shallow sizes, if any.
+ * @param boundaries      the objects at which the walk stops, e.g., the validator factory.
+ */
+internal class FootprintEstimator(
+    private val instrumentation: Instrumentation?,
+    boundaries: Collection<Any>
+) {
+    companion object {
+        private const val OBJECT_HEADER_BYTES: Long = 12
+        private const val ARRAY_HEADER_BYTES: Long = 16
+        private const val REFERENCE_BYTES: Long = 4
+        private const val OBJECT_ALIGNMENT_BYTES: Long = 8
+
+        /** The estimated size of the node and table slot of an entry of a JDK hash map or set. */
+        private const val HASH_ENTRY_BYTES: Long = 36
+
+        /** The estimated size of the slot of an element of a JDK list or other collection. */
+        private const val COLLECTION_ELEMENT_BYTES: Long = REFERENCE_BYTES
+
+        private fun align(size: Long): Long =
+            (size + OBJECT_ALIGNMENT_BYTES - 1) / OBJECT_ALIGNMENT_BYTES * OBJECT_ALIGNMENT_BYTES
+
+        private fun primitiveBytes(clazz: Class<*>): Long = when (clazz) {
+            java.lang.Long.TYPE, java.lang.Double.TYPE -> 8
+            java.lang.Integer.TYPE, java.lang.Float.TYPE -> 4
+            java.lang.Short.TYPE, java.lang.Character.TYPE -> 2
+            else -> 1
+        }
+
+        private fun isOpen(clazz: Class<*>): Boolean {
+            val module = clazz.module
+            return !module.isNamed || module.isOpen(clazz.packageName, FootprintEstimator::class.java.module)
+        }
+
+        /**
+         * @return the instance fields of the given class and its superclasses.
+         * @note this method is memoized as it should only ever need to be calculated once for a given [Class].
+         */
+        private val instanceFields = ::instanceFieldsFn.memoize()
+        private fun instanceFieldsFn(clazz: Class<*>): List<Field> {
+            val fields = mutableListOf<Field>()
+            var current: Class<*>? = clazz
+            while (current != null) {
+                for (field in current.declaredFields) {
+                    if (!Modifier.isStatic(field.modifiers)) fields.add(field)
+                }
+                current = current.superclass
+            }
+            return fields.toList()
+        }
+
+        /**
+         * @return the accessible reference fields of the given class or null if the class is not open to this library.
+         * @note this method is memoized as it should only ever need to be calculated once for a given [Class].
+         */
+        private val referenceFields = ::referenceFieldsFn.memoize()
+        private fun referenceFieldsFn(clazz: Class<*>): List<Field>? {
+            val fields = instanceFields(clazz).filter { !it.type.isPrimitive }
+            for (field in fields) {
+                if (!isOpen(field.declaringClass) || !field.trySetAccessible()) return null
+            }
+            return fields
+        }
+
+        /**
+         * @return the estimated shallow size of an instance of the given class.
+         * @note this method is memoized as it should only ever need to be calculated once for a given [Class].
+         */
+        private val estimatedInstanceSize = ::estimatedInstanceSizeFn.memoize()
+        private fun estimatedInstanceSizeFn(clazz: Class<*>): Long {
+            var size = OBJECT_HEADER_BYTES
+            for (field in instanceFields(clazz)) {
+                size += if (field.type.isPrimitive) primitiveBytes(field.type) else REFERENCE_BYTES
+            }
+            return align(size)
+        }
+    }
+
+    private val visited: MutableSet<Any> = Collections.newSetFromMap(IdentityHashMap())
+
+    init {
+        visited.addAll(boundaries)
+    }
+
+    /** True when shallow sizes are measured with an [Instrumentation] rather than estimated. */
+    val isInstrumented: Boolean
+        get() = instrumentation != null
+
+    /**
+     * @param roots    the roots of the object graph.
+     * @param excluded objects at which this walk stops, without being marked as counted.
+     * @return the estimated size in bytes of the objects reachable from the given roots which were not counted yet.
+     */
+    fun sizeOf(roots: Collection<Any?>, excluded: Collection<Any> = emptyList()): Long {
+        val stack: Deque<Any> = ArrayDeque()
+        for (root in roots) {
+            if (root != null) stack.push(root)
+        }
+        val isExcluded: MutableSet<Any> = Collections.newSetFromMap(IdentityHashMap())
+        isExcluded.addAll(excluded)
+        var size = 0L
+        while (stack.isNotEmpty()) {
+            val obj = stack.pop()
+            if (isExcluded.contains(obj) || isOwnedElsewhere(obj) || !visited.add(obj)) continue
+            size += shallowSizeOf(obj)
+            size += push(stack, obj)
+        }
+        return size
+    }
+
+    private fun isOwnedElsewhere(obj: Any): Boolean =
+        obj is Type || obj is Member || obj is ClassLoader || obj is Module || obj is Thread ||
+                obj is Annotation || obj is Enum<*> || obj is KAnnotatedElement || obj is KType
+
+    private fun shallowSizeOf(obj: Any): Long {
+        if (instrumentation != null) return instrumentation.getObjectSize(obj)
+        val clazz = obj.javaClass
+        return when {
+            clazz.isArray -> {
+                val componentType = clazz.componentType
+                val length = java.lang.reflect.Array.getLength(obj).toLong()
+                val elementBytes = if (componentType.isPrimitive) primitiveBytes(componentType) else REFERENCE_BYTES
+                align(ARRAY_HEADER_BYTES + length * elementBytes)
+            }
+            // the value array of a string is not accessible, assume Latin-1
+            obj is String -> estimatedInstanceSize(clazz) + align(ARRAY_HEADER_BYTES + obj.length)
+            else -> estimatedInstanceSize(clazz)
+        }
+    }
+
+    /** Push the objects referenced by the given object, returns the estimated size of inaccessible internals. */
+    private fun push(stack: Deque<Any>, obj: Any): Long {
+        val clazz = obj.javaClass
+        if (clazz.isArray) {
+            if (!clazz.componentType.isPrimitive) {
+                val length = java.lang.reflect.Array.getLength(obj)
+                var index = 0
+                while (index < length) {
+                    java.lang.reflect.Array.get(obj, index)?.let { stack.push(it) }
+                    index += 1
+                }
+            }
+            return 0L
+        }
+        val fields = referenceFields(clazz)
+        if (fields != null) {
+            var index = 0
+            while (index < fields.size) {
+                fields[index].get(obj)?.let { stack.push(it) }
+                index += 1
+            }
+            return 0L
+        }
+        return when (obj) {
+            // measured with the string
+            is String -> if (instrumentation != null) align(ARRAY_HEADER_BYTES + obj.length) else 0L
+            is Map<*, *> -> {
+                for ((key, value) in obj) {
+                    key?.let { stack.push(it) }
+                    value?.let { stack.push(it) }
+                }
+                obj.size * HASH_ENTRY_BYTES
+            }
+            is Collection<*> -> {
+                for (element in obj) {
+                    element?.let { stack.push(it) }
+                }
+                obj.size * if (obj is Set<*>) HASH_ENTRY_BYTES else COLLECTION_ELEMENT_BYTES
+            }
+            is AtomicReference<*> -> {
+                obj.get()?.let { stack.push(it) }
+                0L
+            }
+            else -> 0L
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package angstromio.validation.internal.engine
+
+import jakarta.validation.groups.Default
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Assigns each validation group class a bit index such that a set of groups can be represented as a [Long] mask
+ * and checking whether a constraint is enabled for the requested groups is a single AND of two masks.
+ *
+ * Only the first [MAX_INDEXED_GROUPS] registered groups are assigned their own bit, any further groups share the
+ * [OVERFLOW] bit for which group membership is checked against the group classes.
+ *
+ * @note an empty set of groups represents the [Default] group.
+ */
+internal class GroupRegistry {
+
+    companion object {
+        /** The bit shared by all groups registered after the first [MAX_INDEXED_GROUPS] groups. */
+        const val OVERFLOW: Long = Long.MIN_VALUE
+
+        private const val MAX_INDEXED_GROUPS: Int = 63
+    }
+
+    private val bits: ConcurrentHashMap<Class<*>, Long> = ConcurrentHashMap()
+    private val nextIndex: AtomicInteger = AtomicInteger(0)
+
+    // the Default group is always bit 0
+    private val defaultBit: Long = bitOf(Default::class.java)
+
+    /** @return the bit of the given group, registering the group if necessary. */
+    fun bitOf(group: Class<*>): Long =
+        bits[group] ?: bits.computeIfAbsent(group) {
+            val index = nextIndex.getAndIncrement()
+            if (index < MAX_INDEXED_GROUPS) 1L shl index else OVERFLOW
+        }
+
+    /** @return the mask of the given groups. */
+    fun maskOf(groups: Collection<Class<*>>): Long {
+        if (groups.isEmpty()) return defaultBit
+        var mask = 0L
+        val iterator = groups.iterator()
+        while (iterator.hasNext()) {
+            mask = mask or bitOf(iterator.next())
+        }
+        return mask
+    }
+
+    /** @return the given requested groups resolved to their mask. */
+    fun resolve(groups: List<Class<*>>): Groups = Groups(groups, maskOf(groups))
+}
+
+/**
+ * The requested groups of a validation call together with their [GroupRegistry] mask.
+ *
+ * @param classes the requested groups, an empty list represents the [Default] group.
+ * @param mask    the [GroupRegistry] mask of the requested groups.
+ */
+internal class Groups(val classes: List<Class<*>>, val mask: Long) {
+
+    /**
+     * @param constraintGroups     the groups of a constraint.
+     * @param constraintGroupsMask the [GroupRegistry] mask of the constraint groups.
+     * @return true if any of the groups of the constraint is requested.
+     */
+    fun isEnabled(constraintGroups: Set<Class<*>>, constraintGroupsMask: Long): Boolean {
+        val matched = constraintGroupsMask and mask
+        // when only the shared overflow bit matches, check the overflowed groups themselves
+        return if (matched != GroupRegistry.OVERFLOW) matched != 0L
+        else classes.any { constraintGroups.contains(it) }
+    }
+}
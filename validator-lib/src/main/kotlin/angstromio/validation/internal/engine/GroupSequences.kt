@@ -0,0 +1,107 @@
+package angstromio.validation.internal.engine
+
+import jakarta.validation.GroupDefinitionException
+import jakarta.validation.GroupSequence
+import jakarta.validation.groups.Default
+
+/**
+ * Resolves requested validation groups into the ordered group sequences to evaluate.
+ *
+ * A resolved sequence is a list of steps, where each step is the list of groups to validate in a single pass. The
+ * steps of a sequence are evaluated in order until a step reports violations. Requested groups which are not
+ * [GroupSequence] interfaces are resolved together as a single step of their own sequence.
+ *
+ * @see [[https://jakarta.ee/specifications/bean-validation/3.0/jakarta-bean-validation-spec-3.0.html#constraintdeclarationvalidationprocess-groupsequence]]
+ */
+internal object GroupSequences {
+    private val DefaultGroup: Class<*> = Default::class.java
+
+    fun isGroupSequence(group: Class<*>): Boolean =
+        group.isInterface && group.isAnnotationPresent(GroupSequence::class.java)
+
+    /**
+     * @param groups               the requested groups, an empty list represents the [Default] group.
+     * @param defaultGroupSequence the redefined default group sequence of the validated class or null if not redefined.
+     * @return true if the requested groups need to be resolved into group sequences.
+     */
+    fun isSequenced(groups: List<Class<*>>, defaultGroupSequence: List<Class<*>>?): Boolean {
+        if (defaultGroupSequence != null && (groups.isEmpty() || groups.contains(DefaultGroup))) return true
+        var index = 0
+        while (index < groups.size) {
+            if (isGroupSequence(groups[index])) return true
+            index += 1
+        }
+        return false
+    }
+
+    /**
+     * @param clazz                the validated class.
+     * @param groups               the requested groups, an empty list represents the [Default] group.
+     * @param defaultGroupSequence the redefined default group sequence of the validated class or null if not redefined.
+     * @return the sequences of steps to evaluate.
+     * @throws GroupDefinitionException - if a group sequence is cyclic.
+     */
+    fun resolve(
+        clazz: Class<*>,
+        groups: List<Class<*>>,
+        defaultGroupSequence: List<Class<*>>?
+    ): List<List<List<Class<*>>>> {
+        val requested = groups.ifEmpty { listOf(DefaultGroup) }
+        val ungrouped = mutableListOf<Class<*>>()
+        val sequences = mutableListOf<List<List<Class<*>>>>()
+        requested.forEach { group ->
+            if (isGroupSequence(group) || (group == DefaultGroup && defaultGroupSequence != null)) {
+                val steps = mutableListOf<List<Class<*>>>()
+                expand(clazz, group, defaultGroupSequence, mutableSetOf(), steps)
+                sequences.add(steps.toList())
+            } else ungrouped.add(group)
+        }
+        return if (ungrouped.isEmpty()) sequences.toList()
+        else listOf(listOf(ungrouped.toList())) + sequences
+    }
+
+    private fun expand(
+        clazz: Class<*>,
+        group: Class<*>,
+        defaultGroupSequence: List<Class<*>>?,
+        visiting: MutableSet<Class<*>>,
+        steps: MutableList<List<Class<*>>>
+    ) {
+        when {
+            // the class itself in its redefined default group sequence represents the constraints of the Default group
+            group == clazz ->
+                steps.add(listOf(DefaultGroup, clazz))
+
+            group == DefaultGroup && defaultGroupSequence != null ->
+                expandAll(clazz, group, defaultGroupSequence, defaultGroupSequence, visiting, steps)
+
+            isGroupSequence(group) ->
+                expandAll(
+                    clazz,
+                    group,
+                    group.getAnnotation(GroupSequence::class.java).value.map { it.java },
+                    defaultGroupSequence,
+                    visiting,
+                    steps
+                )
+
+            else ->
+                steps.add(listOf(group))
+        }
+    }
+
+    private fun expandAll(
+        clazz: Class<*>,
+        group: Class<*>,
+        sequence: List<Class<*>>,
+        defaultGroupSequence: List<Class<*>>?,
+        visiting: MutableSet<Class<*>>,
+        steps: MutableList<List<Class<*>>>
+    ) {
+        if (!visiting.add(group)) throw GroupDefinitionException("Cyclic dependency in groups definition: ${group.name}")
+        sequence.forEach { member ->
+            expand(clazz, member, defaultGroupSequence, visiting, steps)
+        }
+        visiting.remove(group)
+    }
+}
@@ -0,0 +1,209 @@
+package angstromio.validation.internal.engine
+
+import angstromio.util.control.NonFatal
+import jakarta.validation.constraints.DecimalMax
+import jakarta.validation.constraints.DecimalMin
+import jakarta.validation.constraints.Max
+import jakarta.validation.constraints.Min
+import jakarta.validation.constraints.Negative
+import jakarta.validation.constraints.NegativeOrZero
+import jakarta.validation.constraints.Positive
+import jakarta.validation.constraints.PositiveOrZero
+import jakarta.validation.metadata.ConstraintDescriptor
+import java.lang.reflect.Field
+import java.math.BigDecimal
+import java.math.RoundingMode
+
+/**
+ * An allocation-free range check of a numeric constraint placed on a primitive field, which reads the
+ * field value with the primitive [Field] accessors instead of boxing it.
+ *
+ * A check is only ever a "fast pass": when [isValid] returns false the value is either invalid or lies on
+ * a boundary where the floating point semantics of the Hibernate Validator implementation matter (e.g., `NaN`,
+ * `-0.0`, or a decimal bound which is not exactly representable). Callers are expected to fall back to the
+ * generic [jakarta.validation.ConstraintValidator] in that case, which produces the authoritative result.
+ */
+internal class PrimitiveConstraintCheck private constructor(
+    val constraintDescriptor: ConstraintDescriptor<*>,
+    private val field: Field,
+    private val kind: Kind,
+    // inclusive bounds for integral kinds
+    private val lowerBound: Long,
+    private val upperBound: Long,
+    // bounds for floating point kinds
+    private val lowerLimit: Double,
+    private val lowerInclusive: Boolean,
+    private val upperLimit: Double,
+    private val upperInclusive: Boolean
+) {
+
+    private enum class Kind { BYTE, SHORT, INT, LONG, FLOAT, DOUBLE }
+
+    companion object {
+
+        /** The constraint annotations which support a primitive fast path. */
+        val SupportedAnnotations: Set<Class<out Annotation>> = setOf(
+            Min::class.java,
+            Max::class.java,
+            Positive::class.java,
+            PositiveOrZero::class.java,
+            Negative::class.java,
+            NegativeOrZero::class.java,
+            DecimalMin::class.java,
+            DecimalMax::class.java
+        )
+
+        private val LongMin: BigDecimal = BigDecimal.valueOf(Long.MIN_VALUE)
+        private val LongMax: BigDecimal = BigDecimal.valueOf(Long.MAX_VALUE)
+
+        /**
+         * Create a [PrimitiveConstraintCheck] for the given constraint on the given field.
+         *
+         * @return null if the field is not of a supported primitive type or the constraint is not supported.
+         */
+        fun of(field: Field, constraintDescriptor: ConstraintDescriptor<*>): PrimitiveConstraintCheck? {
+            val kind = when (field.type) {
+                java.lang.Byte.TYPE -> Kind.BYTE
+                java.lang.Short.TYPE -> Kind.SHORT
+                java.lang.Integer.TYPE -> Kind.INT
+                java.lang.Long.TYPE -> Kind.LONG
+                java.lang.Float.TYPE -> Kind.FLOAT
+                java.lang.Double.TYPE -> Kind.DOUBLE
+                else -> return null
+            }
+            return try {
+                when (kind) {
+                    Kind.FLOAT, Kind.DOUBLE -> floatingPoint(field, kind, constraintDescriptor)
+                    else -> integral(field, kind, constraintDescriptor)
+                }
+            } catch (e: Exception) {
+                // e.g., an unparseable DecimalMin value, let the generic validator report it
+                if (NonFatal.isNonFatal(e)) null else throw e
+            }
+        }
+
+        private fun integral(
+            field: Field,
+            kind: Kind,
+            constraintDescriptor: ConstraintDescriptor<*>
+        ): PrimitiveConstraintCheck? {
+            val range: Pair<Long, Long> = when (val annotation = constraintDescriptor.annotation) {
+                is Min -> Pair(annotation.value, Long.MAX_VALUE)
+                is Max -> Pair(Long.MIN_VALUE, annotation.value)
+                is Positive -> Pair(1L, Long.MAX_VALUE)
+                is PositiveOrZero -> Pair(0L, Long.MAX_VALUE)
+                is Negative -> Pair(Long.MIN_VALUE, -1L)
+                is NegativeOrZero -> Pair(Long.MIN_VALUE, 0L)
+                is DecimalMin -> {
+                    val bound = BigDecimal(annotation.value)
+                    val lower =
+                        if (annotation.inclusive) bound.setScale(0, RoundingMode.CEILING)
+                        else bound.setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE)
+                    if (lower > LongMax) return null // no value can pass
+                    Pair(if (lower < LongMin) Long.MIN_VALUE else lower.longValueExact(), Long.MAX_VALUE)
+                }
+                is DecimalMax -> {
+                    val bound = BigDecimal(annotation.value)
+                    val upper =
+                        if (annotation.inclusive) bound.setScale(0, RoundingMode.FLOOR)
+                        else bound.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE)
+                    if (upper < LongMin) return null // no value can pass
+                    Pair(Long.MIN_VALUE, if (upper > LongMax) Long.MAX_VALUE else upper.longValueExact())
+                }
+                else -> return null
+            }
+            return PrimitiveConstraintCheck(
+                constraintDescriptor = constraintDescriptor,
+                field = field,
+                kind = kind,
+                lowerBound = range.first,
+                upperBound = range.second,
+                lowerLimit = Double.NEGATIVE_INFINITY,
+                lowerInclusive = false,
+                upperLimit = Double.POSITIVE_INFINITY,
+                upperInclusive = false
+            )
+        }
+
+        private fun floatingPoint(
+            field: Field,
+            kind: Kind,
+            constraintDescriptor: ConstraintDescriptor<*>
+        ): PrimitiveConstraintCheck? {
+            var lowerLimit = Double.NEGATIVE_INFINITY
+            var lowerInclusive = false
+            var upperLimit = Double.POSITIVE_INFINITY
+            var upperInclusive = false
+            when (val annotation = constraintDescriptor.annotation) {
+                is Min -> {
+                    lowerLimit = toLimit(kind, annotation.value)
+                    lowerInclusive = true
+                }
+                is Max -> {
+                    upperLimit = toLimit(kind, annotation.value)
+                    upperInclusive = true
+                }
+                is Positive -> lowerLimit = 0.0
+                is PositiveOrZero -> {
+                    lowerLimit = 0.0
+                    lowerInclusive = true
+                }
+                is Negative -> upperLimit = 0.0
+                is NegativeOrZero -> {
+                    upperLimit = 0.0
+                    upperInclusive = true
+                }
+                // decimal bounds are not necessarily representable, thus only values clearly within
+                // the bound take the fast path
+                is DecimalMin -> lowerLimit = decimalLimit(kind, BigDecimal(annotation.value), up = true)
+                is DecimalMax -> upperLimit = decimalLimit(kind, BigDecimal(annotation.value), up = false)
+                else -> return null
+            }
+            return PrimitiveConstraintCheck(
+                constraintDescriptor = constraintDescriptor,
+                field = field,
+                kind = kind,
+                lowerBound = Long.MIN_VALUE,
+                upperBound = Long.MAX_VALUE,
+                lowerLimit = lowerLimit,
+                lowerInclusive = lowerInclusive,
+                upperLimit = upperLimit,
+                upperInclusive = upperInclusive
+            )
+        }
+
+        // Hibernate Validator compares a float against a long bound as floats
+        private fun toLimit(kind: Kind, value: Long): Double =
+            if (kind == Kind.FLOAT) value.toFloat().toDouble() else value.toDouble()
+
+        private fun decimalLimit(kind: Kind, value: BigDecimal, up: Boolean): Double =
+            if (kind == Kind.FLOAT) {
+                val limit = value.toFloat()
+                (if (up) Math.nextUp(Math.nextUp(limit)) else Math.nextDown(Math.nextDown(limit))).toDouble()
+            } else {
+                val limit = value.toDouble()
+                if (up) Math.nextUp(Math.nextUp(limit)) else Math.nextDown(Math.nextDown(limit))
+            }
+    }
+
+    /**
+     * @return true if the field value of the given instance definitely satisfies the constraint, false if the
+     *         value must be checked by the generic constraint validator.
+     */
+    fun isValid(instance: Any): Boolean =
+        when (kind) {
+            Kind.BYTE -> isWithin(field.getByte(instance).toLong())
+            Kind.SHORT -> isWithin(field.getShort(instance).toLong())
+            Kind.INT -> isWithin(field.getInt(instance).toLong())
+            Kind.LONG -> isWithin(field.getLong(instance))
+            Kind.FLOAT -> isWithin(field.getFloat(instance).toDouble())
+            Kind.DOUBLE -> isWithin(field.getDouble(instance))
+        }
+
+    private fun isWithin(value: Long): Boolean = value in lowerBound..upperBound
+
+    // a value equal to a zero limit falls back as the validators distinguish between 0.0 and -0.0, NaN always falls back
+    private fun isWithin(value: Double): Boolean =
+        (value > lowerLimit || (lowerInclusive && value == lowerLimit && lowerLimit != 0.0)) &&
+                (value < upperLimit || (upperInclusive && value == upperLimit && upperLimit != 0.0))
+}
@@ -0,0 +1,70 @@
+package angstromio.validation.internal.engine
+
+import angstromio.validation.DescriptorFactory
+import angstromio.validation.engine.DescriptorCachePolicy
+import angstromio.validation.internal.metadata.descriptor.ConstraintDescriptorFactory
+import angstromio.validation.internal.metadata.descriptor.LazyBeanDescriptor
+import arrow.core.memoize
+import jakarta.validation.metadata.BeanDescriptor
+import org.hibernate.validator.internal.engine.ValidatorFactoryInspector
+
+/**
+ * The metadata of validated data classes, i.e., their descriptors and compiled [DataClassPlan]s, which only depends
+ * upon the constraint definitions of the given Hibernate Validator factory and not upon its message interpolation.
+ * Held by a single [angstromio.validation.DataClassValidator] or shared by several through a
+ * [angstromio.validation.engine.ValidationMetadataRegistry].
+ *
+ * @param cachePolicy the [DescriptorCachePolicy] of the cached descriptors.
+ * @param validatorFactory the factory providing the constraint definitions.
+ */
+internal class ValidationMetadata(
+    cachePolicy: DescriptorCachePolicy,
+    val validatorFactory: ValidatorFactoryInspector
+) {
+    val constraintDescriptorFactory: ConstraintDescriptorFactory = ConstraintDescriptorFactory(validatorFactory)
+
+    val descriptorFactory: DescriptorFactory =
+        DescriptorFactory(cachePolicy, validatorFactory, constraintDescriptorFactory)
+
+    val groupRegistry: GroupRegistry = GroupRegistry()
+
+    /**
+     * @return the [DataClassPlan] of the given descriptor, compiled on first use and kept by the descriptor such that
+     *         it is evicted with the descriptor and a rebuilt descriptor is compiled anew.
+     */
+    fun getDataClassPlan(descriptor: BeanDescriptor): DataClassPlan {
+        if (descriptor !is LazyBeanDescriptor) return DataClassPlan.of(descriptor, isPrimitiveCheckable, groupRegistry)
+        return descriptor.plan ?: synchronized(descriptor) {
+            descriptor.plan ?: DataClassPlan.of(descriptor, isPrimitiveCheckable, groupRegistry).also { plan ->
+                descriptor.plan = plan
+            }
+        }
+    }
+
+    /** @return the compiled [DataClassPlan]s of the cached descriptors by data class. */
+    fun dataClassPlans(): Map<Class<*>, DataClassPlan> =
+        descriptorFactory.cachedDescriptors().mapNotNull { (clazz, descriptor) ->
+            (descriptor as? LazyBeanDescriptor)?.plan?.let { plan -> clazz to plan }
+        }.toMap()
+
+    /** @return the memoized functions of the metadata. */
+    fun memoized(): List<Any> = listOf(isPrimitiveCheckable)
+
+    /**
+     * A constraint annotation is only evaluated with a [PrimitiveConstraintCheck] when every validator
+     * registered for it is a built-in Hibernate Validator implementation, i.e., the semantics have not
+     * been changed via a [angstromio.validation.cfg.ConstraintMapping].
+     *
+     * @note this method is memoized as it should only ever need to be calculated once for a given [Class].
+     */
+    private val isPrimitiveCheckable = ::isPrimitiveCheckableFn.memoize()
+    private fun isPrimitiveCheckableFn(annotationClazz: Class<out Annotation>): Boolean =
+        PrimitiveConstraintCheck.SupportedAnnotations.contains(annotationClazz) &&
+                validatorFactory.constraintHelper.getAllValidatorDescriptors(annotationClazz).all { descriptor ->
+                    descriptor.validatorClass.name.startsWith("org.hibernate.validator.internal.constraintvalidators.")
+                }
+
+    fun close() {
+        descriptorFactory.close()
+    }
+}
@@ -0,0 +1,110 @@
+package angstromio.validation.internal.jfr
+
+import jdk.jfr.Category
+import jdk.jfr.Description
+import jdk.jfr.Event
+import jdk.jfr.Label
+import jdk.jfr.Name
+import jdk.jfr.StackTrace
+import jdk.jfr.Threshold
+
+/*
+ * JFR events of the validator. Each event is only recorded while enabled in a recording, e.g., with
+ * `-XX:StartFlightRecording` or `jcmd <pid> JFR.start`, and its threshold can be changed with the recording settings,
+ * e.g., `angstromio.validation.Validate#threshold=0 ms`. A disabled event costs an `isEnabled` check per emitting
+ * call: event objects are created but neither timed nor filled, which lets the JIT compiler eliminate them.
+ */
+
+/** A [angstromio.validation.DataClassValidator] validation call of a root object. */
+@Name("angstromio.validation.Validate")
+@Label("Validate")
+@Category("angstromio", "Validation")
+@Description("A validation call of a root object, not recorded for results answered from the result cache.")
+@Threshold("1 ms")
+@StackTrace(false)
+internal class ValidateEvent : Event() {
+    @field:Label("Root Class")
+    @JvmField
+    var rootClass: Class<*>? = null
+
+    @field:Label("Violations")
+    @JvmField
+    var violations: Int = 0
+
+    @field:Label("Fail Fast")
+    @JvmField
+    var failFast: Boolean = false
+
+    @field:Label("Result")
+    @field:Description("COMPLETE, TRUNCATED when a validation limit was exceeded or TIMED_OUT when cancelled.")
+    @JvmField
+    var result: String? = null
+}
+
+/** A data class descriptor built on a descriptor cache miss, or the lazily built executables of a descriptor. */
+@Name("angstromio.validation.DescriptorBuild")
+@Label("Descriptor Build")
+@Category("angstromio", "Validation")
+@Description("A data class descriptor built on a descriptor cache miss.")
+@StackTrace(false)
+internal class DescriptorBuildEvent : Event() {
+    @field:Label("Described Class")
+    @JvmField
+    var describedClass: Class<*>? = null
+
+    @field:Label("Pinned")
+    @field:Description("Whether the descriptor is pinned and never evicted.")
+    @JvmField
+    var pinned: Boolean = false
+
+    @field:Label("Executables")
+    @field:Description("Whether the method and constructor descriptors were built rather than the descriptor.")
+    @JvmField
+    var executables: Boolean = false
+}
+
+/** A constraint validator evaluation which exceeded the threshold of the event. */
+@Name("angstromio.validation.SlowConstraint")
+@Label("Slow Constraint")
+@Category("angstromio", "Validation")
+@Description("A constraint validator evaluation which exceeded the threshold.")
+@Threshold("10 ms")
+@StackTrace(false)
+internal class SlowConstraintEvent : Event() {
+    @field:Label("Annotation")
+    @JvmField
+    var annotation: Class<*>? = null
+
+    @field:Label("Constraint Validator")
+    @JvmField
+    var constraintValidator: Class<*>? = null
+
+    @field:Label("Path")
+    @JvmField
+    var path: String? = null
+
+    @field:Label("Valid")
+    @JvmField
+    var valid: Boolean = false
+}
+
+/** An invocation of a `@PostConstructValidation` method. */
+@Name("angstromio.validation.PostConstructValidation")
+@Label("Post Construct Validation")
+@Category("angstromio", "Validation")
+@Description("An invocation of a @PostConstructValidation method.")
+@Threshold("1 ms")
+@StackTrace(false)
+internal class PostConstructValidationEvent : Event() {
+    @field:Label("Data Class")
+    @JvmField
+    var dataClass: Class<*>? = null
+
+    @field:Label("Method")
+    @JvmField
+    var method: String? = null
+
+    @field:Label("Valid")
+    @JvmField
+    var valid: Boolean = false
+}
@@ -0,0 +1,224 @@
+package angstromio.validation.internal.metadata
+
+import angstromio.util.control.NonFatal.tryOrNull
+import arrow.core.memoize
+import kotlinx.metadata.ClassKind
+import kotlinx.metadata.KmConstructor
+import kotlinx.metadata.KmFunction
+import kotlinx.metadata.KmProperty
+import kotlinx.metadata.isData
+import kotlinx.metadata.isSecondary
+import kotlinx.metadata.kind
+import kotlinx.metadata.jvm.KotlinClassMetadata
+import kotlinx.metadata.jvm.signature
+import kotlinx.metadata.jvm.syntheticMethodForAnnotations
+import java.lang.reflect.Constructor
+import java.lang.reflect.Executable
+import java.lang.reflect.Method
+
+/**
+ * Reads the Kotlin declarations needed to describe a data class, i.e., whether a class is a data class, the primary
+ * constructor, the names of constructor and function parameters and the property annotations, directly from the
+ * [Metadata] annotation of the class instead of through kotlin-reflect, which builds and caches the full Kotlin model
+ * of a class on its first use.
+ *
+ * Parameter names of executables without Kotlin metadata are read from the class file when compiled with
+ * `-parameters`.
+ */
+internal object KotlinMetadata {
+
+    /**
+     * The Kotlin declarations of a class.
+     *
+     * @param isDataClass whether the class is a data class.
+     * @param primaryConstructor the JVM signature of the primary constructor, if any.
+     * @param parameterNames the names of the value parameters of the constructors and functions by JVM signature.
+     * @param propertyAnnotationsMethods the JVM signature of the synthetic method holding the annotations of each
+     *                                   property by property name, null for a property without annotations.
+     */
+    class ClassMetadata(
+        val isDataClass: Boolean,
+        val primaryConstructor: String?,
+        val parameterNames: Map<String, List<String>>,
+        val propertyAnnotationsMethods: Map<String, String?>
+    )
+
+    /**
+     * @return the [ClassMetadata] of the given class or null if the class has no Kotlin metadata.
+     * @note this method is memoized as it should only ever need to be calculated once for a given [Class].
+     */
+    val read = ::readFn.memoize()
+    private fun readFn(clazz: Class<*>): ClassMetadata? {
+        val metadata = clazz.getAnnotation(Metadata::class.java) ?: return null
+        return when (val classMetadata = tryOrNull { KotlinClassMetadata.readLenient(metadata) }) {
+            is KotlinClassMetadata.Class ->
+                classMetadata.kmClass.let { kmClass ->
+                    toClassMetadata(
+                        isDataClass = kmClass.kind == ClassKind.CLASS && kmClass.isData,
+                        constructors = kmClass.constructors,
+                        functions = kmClass.functions,
+                        properties = kmClass.properties
+                    )
+                }
+            is KotlinClassMetadata.FileFacade ->
+                toClassMetadata(
+                    isDataClass = false,
+                    constructors = emptyList(),
+                    functions = classMetadata.kmPackage.functions,
+                    properties = classMetadata.kmPackage.properties
+                )
+            is KotlinClassMetadata.MultiFileClassPart ->
+                toClassMetadata(
+                    isDataClass = false,
+                    constructors = emptyList(),
+                    functions = classMetadata.kmPackage.functions,
+                    properties = classMetadata.kmPackage.properties
+                )
+            else -> null
+        }
+    }
+
+    /**
+     * Returns true if the given class is a Kotlin data class, as `clazz.kotlin.isData` without kotlin-reflect.
+     * @note the answer is memoized with the [ClassMetadata] of the class, see [read].
+     */
+    fun isDataClass(clazz: Class<*>): Boolean = read(clazz)?.isDataClass == true
+
+    /**
+     * Returns the primary constructor of the given class, or the first declared constructor which is not synthetic
+     * if the class has no Kotlin metadata, e.g., a Java class, or no primary constructor.
+     */
+    fun primaryConstructor(clazz: Class<*>): Constructor<*>? {
+        val signature = read(clazz)?.primaryConstructor
+        val constructors = clazz.declaredConstructors
+        if (signature != null) {
+            var index = 0
+            while (index < constructors.size) {
+                if (signature(constructors[index]) == signature) return constructors[index]
+                index += 1
+            }
+        }
+        return constructors.firstOrNull { !it.isSynthetic }
+    }
+
+    /**
+     * Returns the names of the value parameters of the given [Executable] as declared in Kotlin, or as compiled
+     * with `-parameters` for an executable without Kotlin metadata. Returns an empty list if the names are unknown.
+     */
+    fun parameterNames(executable: Executable): List<String> {
+        val names = read(executable.declaringClass)?.parameterNames?.get(signature(executable))
+        return when {
+            names != null -> names
+            executable.parameters.all { it.isNamePresent } -> executable.parameters.map { it.name }
+            else -> emptyList()
+        }
+    }
+
+    /**
+     * Returns the annotations of the Kotlin properties of the given class by property name, including the properties
+     * inherited from its superclasses and interfaces. As with `clazz.kotlin.memberProperties`, a property declared
+     * by a subtype hides the annotations of the property it overrides.
+     */
+    fun propertyAnnotations(clazz: Class<*>): Map<String, Array<Annotation>> {
+        val results = mutableMapOf<String, Array<Annotation>>()
+        val visited = mutableSetOf<Class<*>>()
+        val supertypes = ArrayDeque<Class<*>>()
+        supertypes.addLast(clazz)
+        while (supertypes.isNotEmpty()) {
+            val current = supertypes.removeFirst()
+            if (current == Any::class.java || !visited.add(current)) continue
+            val propertyAnnotationsMethods = read(current)?.propertyAnnotationsMethods
+            if (!propertyAnnotationsMethods.isNullOrEmpty()) {
+                val methodsBySignature = annotationsMethods(current).associateBy { signature(it) }
+                for ((name, signature) in propertyAnnotationsMethods) {
+                    if (results.containsKey(name)) continue
+                    results[name] = signature?.let { methodsBySignature[it]?.annotations } ?: emptyArray()
+                }
+            }
+            current.superclass?.let { supertypes.addLast(it) }
+            supertypes.addAll(current.interfaces)
+        }
+        return results.filterValues { it.isNotEmpty() }
+    }
+
+    /** @return the JVM signature, i.e., the name followed by the method descriptor, of the given [Executable]. */
+    fun signature(executable: Executable): String {
+        val builder = StringBuilder()
+        builder.append(if (executable is Method) executable.name else "<init>")
+        builder.append('(')
+        val parameterTypes = executable.parameterTypes
+        var index = 0
+        while (index < parameterTypes.size) {
+            appendDescriptor(builder, parameterTypes[index])
+            index += 1
+        }
+        builder.append(')')
+        appendDescriptor(builder, if (executable is Method) executable.returnType else Void.TYPE)
+        return builder.toString()
+    }
+
+    /* Private */
+
+    private fun toClassMetadata(
+        isDataClass: Boolean,
+        constructors: List<KmConstructor>,
+        functions: List<KmFunction>,
+        properties: List<KmProperty>
+    ): ClassMetadata {
+        var primaryConstructor: String? = null
+        val parameterNames = mutableMapOf<String, List<String>>()
+        for (constructor in constructors) {
+            val signature = constructor.signature?.toString() ?: continue
+            if (!constructor.isSecondary) primaryConstructor = signature
+            parameterNames[signature] = constructor.valueParameters.map { it.name }
+        }
+        for (function in functions) {
+            val signature = function.signature?.toString() ?: continue
+            parameterNames[signature] = function.valueParameters.map { it.name }
+        }
+        val propertyAnnotationsMethods = mutableMapOf<String, String?>()
+        for (property in properties) {
+            propertyAnnotationsMethods[property.name] = property.syntheticMethodForAnnotations?.toString()
+        }
+        return ClassMetadata(
+            isDataClass = isDataClass,
+            primaryConstructor = primaryConstructor,
+            parameterNames = parameterNames.toMap(),
+            propertyAnnotationsMethods = propertyAnnotationsMethods.toMap()
+        )
+    }
+
+    /** The synthetic methods of an interface are compiled into its `DefaultImpls` class. */
+    private fun annotationsMethods(clazz: Class<*>): List<Method> {
+        val methods = clazz.declaredMethods.toMutableList()
+        if (clazz.isInterface) {
+            val defaultImpls = clazz.declaredClasses.firstOrNull { it.simpleName == "DefaultImpls" }
+            if (defaultImpls != null) methods.addAll(defaultImpls.declaredMethods)
+        }
+        return methods
+    }
+
+    private fun appendDescriptor(builder: StringBuilder, clazz: Class<*>) {
+        when {
+            clazz.isPrimitive ->
+                builder.append(
+                    when (clazz) {
+                        Void.TYPE -> 'V'
+                        java.lang.Boolean.TYPE -> 'Z'
+                        java.lang.Byte.TYPE -> 'B'
+                        java.lang.Character.TYPE -> 'C'
+                        java.lang.Short.TYPE -> 'S'
+                        java.lang.Integer.TYPE -> 'I'
+                        java.lang.Long.TYPE -> 'J'
+                        java.lang.Float.TYPE -> 'F'
+                        else -> 'D'
+                    }
+                )
+            clazz.isArray -> {
+                builder.append('[')
+                appendDescriptor(builder, clazz.componentType)
+            }
+            else -> builder.append('L').append(clazz.name.replace('.', '/')).append(';')
+        }
+    }
+}
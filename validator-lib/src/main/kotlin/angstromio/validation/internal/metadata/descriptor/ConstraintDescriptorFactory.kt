@@ -1,40 +1,79 @@
 package angstromio.validation.internal.metadata.descriptor
 
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
 import jakarta.validation.groups.Default
 import org.hibernate.validator.internal.engine.ValidatorFactoryInspector
 import org.hibernate.validator.internal.metadata.core.ConstraintOrigin
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation
 import org.hibernate.validator.internal.metadata.raw.ConstrainedElement
+import org.hibernate.validator.internal.properties.Callable
 import org.hibernate.validator.internal.properties.Constrainable
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor
 import java.lang.reflect.Type
 
+/**
+ * Creates the [ConstraintDescriptorImpl]s of data class constraints. Descriptors of equal constraint annotations
+ * on properties of the same type are interned, such that each distinct constraint, e.g., `@Size(min = 1, max = 255)`
+ * on a String, exists once regardless of the number of properties declaring it. Descriptors of executable
+ * constraints are not interned as their constraint type depends upon the executable.
+ */
 internal class ConstraintDescriptorFactory(private val validatorFactory: ValidatorFactoryInspector) {
 
+    private data class ConstraintKey(
+        val annotation: Annotation,
+        val constrainedElementKind: ConstrainedElement.ConstrainedElementKind,
+        val type: Type
+    )
+
+    // weak values: an interned descriptor is only kept while a cached data class descriptor references it
+    private val constraintDescriptors: Cache<ConstraintKey, ConstraintDescriptorImpl<Annotation>> =
+        Caffeine
+            .newBuilder()
+            .weakValues()
+            .build()
+
+    private val annotationDescriptors: Cache<Annotation, ConstraintAnnotationDescriptor<Annotation>> =
+        Caffeine
+            .newBuilder()
+            .weakValues()
+            .build()
+
     fun newConstraintDescriptor(
         name: String?,
         clazz: Class<*>,
         declaringClazz: Class<*>,
         annotation: Annotation,
         constrainedElementKind: ConstrainedElement.ConstrainedElementKind = ConstrainedElement.ConstrainedElementKind.FIELD
-    ) = ConstraintDescriptorImpl(
-        validatorFactory.constraintHelper,
-        mkConstrainable(name, clazz, declaringClazz, constrainedElementKind),
-        ConstraintAnnotationDescriptor.Builder(annotation).build(),
-        ConstraintLocation.ConstraintLocationKind.of(constrainedElementKind),
-        Default::class.java,
-        ConstraintOrigin.DEFINED_LOCALLY,
-        ConstraintDescriptorImpl.ConstraintType.GENERIC
-    )
+    ): ConstraintDescriptorImpl<Annotation> =
+        newConstraintDescriptor(mkConstrainable(name, clazz, declaringClazz, constrainedElementKind), annotation)
 
     fun newConstraintDescriptor(
         constrainable: Constrainable,
         annotation: Annotation
-    ) = ConstraintDescriptorImpl(
+    ): ConstraintDescriptorImpl<Annotation> =
+        if (constrainable is Callable) buildConstraintDescriptor(constrainable, annotation)
+        else {
+            val key = ConstraintKey(annotation, constrainable.constrainedElementKind, constrainable.typeForValidatorResolution)
+            constraintDescriptors.get(key) { buildConstraintDescriptor(constrainable, annotation) }
+        }
+
+    /** The number of interned constraint descriptors. */
+    val size: Long
+        get() = constraintDescriptors.estimatedSize()
+
+    /** @return the interned constraint and annotation descriptors. */
+    fun interned(): List<Any> =
+        constraintDescriptors.asMap().values.toList() + annotationDescriptors.asMap().values.toList()
+
+    private fun buildConstraintDescriptor(
+        constrainable: Constrainable,
+        annotation: Annotation
+    ): ConstraintDescriptorImpl<Annotation> = ConstraintDescriptorImpl(
         validatorFactory.constraintHelper,
         constrainable,
-        ConstraintAnnotationDescriptor.Builder(annotation).build(),
+        annotationDescriptors.get(annotation) { ConstraintAnnotationDescriptor.Builder(annotation).build() },
         ConstraintLocation.ConstraintLocationKind.of(constrainable.constrainedElementKind),
         Default::class.java,
         ConstraintOrigin.DEFINED_LOCALLY,
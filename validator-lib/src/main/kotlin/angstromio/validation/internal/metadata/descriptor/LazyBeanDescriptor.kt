@@ -0,0 +1,57 @@
+package angstromio.validation.internal.metadata.descriptor
+
+import angstromio.validation.internal.engine.DataClassPlan
+import jakarta.validation.metadata.BeanDescriptor
+import jakarta.validation.metadata.ConstructorDescriptor
+import jakarta.validation.metadata.MethodDescriptor
+import jakarta.validation.metadata.MethodType
+
+/**
+ * A [BeanDescriptor] which builds its method and constructor descriptors on the first access to any of them as
+ * most data classes are only ever validated as a whole and never with executable validation.
+ *
+ * @param descriptor the [BeanDescriptor] of the class-level and property constraints, without executables.
+ * @param postConstructValidationMethods the descriptors of the `@PostConstructValidation` methods which are
+ *                                       needed to validate the data class and are thus built eagerly.
+ * @param executables builds the [BeanDescriptor] with all constrained methods and constructors.
+ */
+internal class LazyBeanDescriptor(
+    private val descriptor: BeanDescriptor,
+    val postConstructValidationMethods: List<MethodDescriptor>,
+    executables: () -> BeanDescriptor
+) : BeanDescriptor by descriptor {
+
+    private val executableDescriptorLazy: Lazy<BeanDescriptor> = lazy(executables)
+    private val executableDescriptor: BeanDescriptor
+        get() = executableDescriptorLazy.value
+
+    /** True when the method and constructor descriptors have been built. */
+    val isExecutablesInitialized: Boolean
+        get() = executableDescriptorLazy.isInitialized()
+
+    /** The [BeanDescriptor] of the class-level and property constraints, without executables. */
+    val propertiesDescriptor: BeanDescriptor
+        get() = descriptor
+
+    /** The [DataClassPlan] compiled from this descriptor, or null if it has not been compiled. */
+    @Volatile
+    var plan: DataClassPlan? = null
+
+    /** The [BeanDescriptor] with the method and constructor descriptors, or null if they have not been built. */
+    val executablesDescriptorOrNull: BeanDescriptor?
+        get() = if (executableDescriptorLazy.isInitialized()) executableDescriptorLazy.value else null
+
+    override fun getConstraintsForMethod(methodName: String, vararg parameterTypes: Class<*>): MethodDescriptor? =
+        executableDescriptor.getConstraintsForMethod(methodName, *parameterTypes)
+
+    override fun getConstrainedMethods(methodType: MethodType, vararg methodTypes: MethodType): Set<MethodDescriptor> =
+        executableDescriptor.getConstrainedMethods(methodType, *methodTypes)
+
+    override fun getConstraintsForConstructor(vararg parameterTypes: Class<*>): ConstructorDescriptor? =
+        executableDescriptor.getConstraintsForConstructor(*parameterTypes)
+
+    override fun getConstrainedConstructors(): Set<ConstructorDescriptor> =
+        executableDescriptor.constrainedConstructors
+
+    override fun toString(): String = descriptor.toString()
+}
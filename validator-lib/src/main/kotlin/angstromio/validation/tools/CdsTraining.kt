@@ -0,0 +1,123 @@
+package angstromio.validation.tools
+
+import angstromio.util.control.NonFatal
+import angstromio.validation.DataClassValidator
+import java.math.BigDecimal
+import java.math.BigInteger
+import java.time.Instant
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.LocalTime
+import java.util.*
+import kotlin.reflect.KClass
+import kotlin.reflect.KParameter
+import kotlin.reflect.KType
+import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.isAccessible
+import kotlin.reflect.jvm.jvmErasure
+
+/**
+ * A training run for an AppCDS (class data sharing) archive of an application validating the given data classes:
+ * describes each data class and validates a synthetic instance of each with a [DataClassValidator] such that the
+ * Hibernate Validator, kotlin-reflect, Caffeine and angstromio classes loaded by the first validation are loaded,
+ * then exits.
+ *
+ * Run with the data classes on the classpath of the application, either with `-XX:DumpLoadedClassList=<file>` to
+ * generate a class list for a static archive or with `-XX:ArchiveClassesAtExit=<file>` to generate a dynamic
+ * archive, e.g., with the `cdsClassList` and `cdsArchive` Gradle tasks, as `CdsTraining <data class name>...`. The
+ * application is then started with `-XX:SharedArchiveFile=<file>` and the same classpath.
+ */
+class CdsTraining(private val validator: DataClassValidator) {
+
+    companion object {
+        /** Synthetic instances are not created for data classes nested deeper than this. */
+        private const val MAX_DEPTH: Int = 8
+
+        @JvmStatic
+        fun main(args: Array<String>) {
+            if (args.isEmpty()) {
+                System.err.println("Usage: CdsTraining <data class name>...")
+                return
+            }
+            val clazzes = args.map { Class.forName(it) }
+            val validator = DataClassValidator()
+            try {
+                val trained = CdsTraining(validator).train(clazzes)
+                println("trained ${trained.size} of ${clazzes.size} data classes: ${trained.joinToString { it.name }}")
+            } finally {
+                validator.close()
+            }
+        }
+    }
+
+    /**
+     * Describe each of the given data classes and validate a synthetic instance of each.
+     *
+     * @param clazzes the data classes to train with.
+     * @return the data classes for which a synthetic instance was validated.
+     */
+    fun train(clazzes: Collection<Class<*>>): List<Class<*>> {
+        val trained = mutableListOf<Class<*>>()
+        for (clazz in clazzes) {
+            validator.getConstraintsForClass(clazz)
+            val instance = syntheticInstance(clazz.kotlin, 0) ?: continue
+            validator.validate(instance)
+            validator.validateAll(instance)
+            validator.isValid(instance)
+            trained.add(clazz)
+        }
+        return trained
+    }
+
+    /** @return an instance of the given data class with synthetic property values or null if none can be created. */
+    private fun syntheticInstance(kClazz: KClass<*>, depth: Int): Any? {
+        if (!kClazz.isData || depth > MAX_DEPTH) return null
+        val constructor = kClazz.primaryConstructor ?: return null
+        return try {
+            constructor.isAccessible = true
+            val arguments = mutableMapOf<KParameter, Any?>()
+            for (parameter in constructor.parameters) {
+                val value = syntheticValue(parameter.type, depth)
+                if (value != null) {
+                    arguments[parameter] = value
+                } else if (parameter.type.isMarkedNullable) {
+                    arguments[parameter] = null
+                } else if (!parameter.isOptional) {
+                    return null
+                }
+            }
+            constructor.callBy(arguments)
+        } catch (e: Exception) {
+            if (NonFatal.isNonFatal(e)) null else throw e
+        }
+    }
+
+    private fun syntheticValue(type: KType, depth: Int): Any? {
+        val kClazz = type.jvmErasure
+        return when {
+            kClazz == String::class -> ""
+            kClazz == Int::class -> 0
+            kClazz == Long::class -> 0L
+            kClazz == Short::class -> 0.toShort()
+            kClazz == Byte::class -> 0.toByte()
+            kClazz == Double::class -> 0.0
+            kClazz == Float::class -> 0.0f
+            kClazz == Boolean::class -> false
+            kClazz == Char::class -> ' '
+            kClazz == BigDecimal::class -> BigDecimal.ZERO
+            kClazz == BigInteger::class -> BigInteger.ZERO
+            kClazz == UUID::class -> UUID(0L, 0L)
+            kClazz == Instant::class -> Instant.EPOCH
+            kClazz == LocalDate::class -> LocalDate.EPOCH
+            kClazz == LocalDateTime::class -> LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIDNIGHT)
+            kClazz.java.isEnum -> kClazz.java.enumConstants.firstOrNull()
+            kClazz == List::class || kClazz == Collection::class || kClazz == Iterable::class ->
+                listOfNotNull(type.arguments.firstOrNull()?.type?.let { syntheticValue(it, depth + 1) })
+            kClazz == Set::class ->
+                setOfNotNull(type.arguments.firstOrNull()?.type?.let { syntheticValue(it, depth + 1) })
+            kClazz == Map::class -> emptyMap<Any, Any>()
+            kClazz.java.isArray -> java.lang.reflect.Array.newInstance(kClazz.java.componentType, 0)
+            else -> syntheticInstance(kClazz, depth + 1)
+        }
+    }
+}
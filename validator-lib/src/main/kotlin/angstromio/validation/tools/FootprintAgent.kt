@@ -0,0 +1,34 @@
+package angstromio.validation.tools
+
+import java.lang.instrument.Instrumentation
+
+/**
+ * A Java agent which provides the [Instrumentation] used to measure object sizes for
+ * [angstromio.validation.DataClassValidator.footprint]. Without the agent the sizes are estimated.
+ *
+ * Start the JVM with `-javaagent:<path to the angstromio-validator jar>`, or load the agent into a running JVM.
+ * Applications with their own agent can [install] its [Instrumentation] instead.
+ */
+object FootprintAgent {
+
+    /** The installed [Instrumentation], if any. */
+    @Volatile
+    var instrumentation: Instrumentation? = null
+        private set
+
+    @JvmStatic
+    fun premain(args: String?, instrumentation: Instrumentation) {
+        install(instrumentation)
+    }
+
+    @JvmStatic
+    fun agentmain(args: String?, instrumentation: Instrumentation) {
+        install(instrumentation)
+    }
+
+    /** Use the given [Instrumentation] to measure object sizes. */
+    @JvmStatic
+    fun install(instrumentation: Instrumentation) {
+        this.instrumentation = instrumentation
+    }
+}
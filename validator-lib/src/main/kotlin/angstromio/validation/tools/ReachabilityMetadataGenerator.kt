@@ -0,0 +1,213 @@
+package angstromio.validation.tools
+
+import angstromio.util.control.NonFatal
+import angstromio.validation.DataClassValidator
+import angstromio.validation.constraints.PostConstructValidation
+import jakarta.validation.metadata.BeanDescriptor
+import jakarta.validation.metadata.ConstraintDescriptor
+import jakarta.validation.metadata.MethodType
+import jakarta.validation.metadata.PropertyDescriptor
+import org.hibernate.validator.internal.engine.ValidatorFactoryImpl
+import java.io.File
+import java.util.*
+
+/**
+ * Generates the GraalVM native-image reachability metadata needed to validate the given data classes with a
+ * [DataClassValidator] in a native image: the declared fields, methods and constructors of every data class
+ * reachable by cascading from the given data classes (which covers property getters and `@PostConstructValidation`
+ * methods), the constraint annotation types and the constructors of their constraint validators, the Kotlin metadata
+ * read by kotlin-reflect and the private fields of Hibernate Validator read by the validator.
+ *
+ * Run with the data classes on the classpath, e.g., with the `generateReachabilityMetadata` Gradle task, as
+ * `ReachabilityMetadataGenerator <output directory> <data class name>...` which writes a
+ * `reachability-metadata.json` as well as the legacy `reflect-config.json` and `resource-config.json` files to
+ * the output directory, e.g., `src/main/resources/META-INF/native-image/<group>/<artifact>`.
+ */
+class ReachabilityMetadataGenerator(private val validator: DataClassValidator) {
+
+    companion object {
+        private val KotlinResources: List<Resource> = listOf(
+            Resource(glob = "META-INF/*.kotlin_module", pattern = "\\QMETA-INF/\\E[^/]*\\.kotlin_module"),
+            Resource(glob = "kotlin/**/*.kotlin_builtins", pattern = "\\Qkotlin/\\E.*\\.kotlin_builtins")
+        )
+
+        private val Bundles: List<String> = listOf(
+            "ValidationMessages",
+            "ContributorValidationMessages",
+            "org.hibernate.validator.ValidationMessages"
+        )
+
+        @JvmStatic
+        fun main(args: Array<String>) {
+            if (args.size < 2) {
+                System.err.println("Usage: ReachabilityMetadataGenerator <output directory> <data class name>...")
+                return
+            }
+            val outputDirectory = File(args[0])
+            val clazzes = args.drop(1).map { Class.forName(it) }
+            val validator = DataClassValidator()
+            try {
+                ReachabilityMetadataGenerator(validator).generate(clazzes).writeTo(outputDirectory)
+            } finally {
+                validator.close()
+            }
+        }
+    }
+
+    /** A resource, as a glob for `reachability-metadata.json` and as a pattern for `resource-config.json`. */
+    class Resource(val glob: String, val pattern: String)
+
+    /**
+     * The reflective access to a single type.
+     *
+     * @param name the name of the type.
+     */
+    class TypeMetadata(val name: String) {
+        var allDeclaredConstructors: Boolean = false
+        var allDeclaredMethods: Boolean = false
+        var allDeclaredFields: Boolean = false
+        val fields: SortedSet<String> = TreeSet()
+    }
+
+    /** The generated reachability metadata. */
+    class ReachabilityMetadata(
+        val types: SortedMap<String, TypeMetadata>,
+        val resources: List<Resource>,
+        val bundles: List<String>
+    ) {
+
+        /** @return the metadata in the `reachability-metadata.json` format. */
+        fun toReachabilityMetadataJson(): String {
+            val builder = StringBuilder()
+            builder.append("{\n  \"reflection\": [\n")
+            appendTypes(builder, "type")
+            builder.append("\n  ],\n  \"resources\": [\n")
+            builder.append(resources.joinToString(",\n") { "    {\"glob\": ${quote(it.glob)}}" })
+            builder.append("\n  ],\n  \"bundles\": [\n")
+            builder.append(bundles.joinToString(",\n") { "    {\"name\": ${quote(it)}}" })
+            builder.append("\n  ]\n}\n")
+            return builder.toString()
+        }
+
+        /** @return the reflection metadata in the legacy `reflect-config.json` format. */
+        fun toReflectConfigJson(): String {
+            val builder = StringBuilder()
+            builder.append("[\n")
+            appendTypes(builder, "name")
+            builder.append("\n]\n")
+            return builder.toString()
+        }
+
+        /** @return the resource metadata in the legacy `resource-config.json` format. */
+        fun toResourceConfigJson(): String {
+            val builder = StringBuilder()
+            builder.append("{\n  \"resources\": {\n    \"includes\": [\n")
+            builder.append(resources.joinToString(",\n") { "      {\"pattern\": ${quote(it.pattern)}}" })
+            builder.append("\n    ]\n  },\n  \"bundles\": [\n")
+            builder.append(bundles.joinToString(",\n") { "    {\"name\": ${quote(it)}}" })
+            builder.append("\n  ]\n}\n")
+            return builder.toString()
+        }
+
+        /** Write the metadata files to the given directory. */
+        fun writeTo(directory: File) {
+            directory.mkdirs()
+            File(directory, "reachability-metadata.json").writeText(toReachabilityMetadataJson())
+            File(directory, "reflect-config.json").writeText(toReflectConfigJson())
+            File(directory, "resource-config.json").writeText(toResourceConfigJson())
+        }
+
+        private fun appendTypes(builder: StringBuilder, nameKey: String) {
+            builder.append(types.values.joinToString(",\n") { type ->
+                val attributes = mutableListOf("\"$nameKey\": ${quote(type.name)}")
+                if (type.allDeclaredConstructors) attributes.add("\"allDeclaredConstructors\": true")
+                if (type.allDeclaredMethods) attributes.add("\"allDeclaredMethods\": true")
+                if (type.allDeclaredFields) attributes.add("\"allDeclaredFields\": true")
+                if (type.fields.isNotEmpty()) {
+                    attributes.add("\"fields\": [" + type.fields.joinToString(", ") { "{\"name\": ${quote(it)}}" } + "]")
+                }
+                "    {" + attributes.joinToString(", ") + "}"
+            })
+        }
+
+        private fun quote(value: String): String = "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\""
+    }
+
+    /**
+     * Generate the reachability metadata for validating the given data classes.
+     *
+     * @param clazzes the data classes to validate.
+     * @return the [ReachabilityMetadata].
+     */
+    fun generate(clazzes: Collection<Class<*>>): ReachabilityMetadata {
+        val types = TreeMap<String, TypeMetadata>()
+        // read reflectively by the validator, see ValidatorFactoryInspector#executableHelper
+        type(types, ValidatorFactoryImpl::class.java).fields.add("executableHelper")
+        // read by kotlin-reflect
+        type(types, Metadata::class.java).allDeclaredMethods = true
+        annotation(types, PostConstructValidation::class.java)
+
+        val visited = mutableSetOf<Class<*>>()
+        val queue: Deque<Class<*>> = java.util.ArrayDeque(clazzes)
+        while (queue.isNotEmpty()) {
+            val clazz = queue.removeFirst()
+            if (visited.add(clazz)) describe(types, clazz, queue)
+        }
+        return ReachabilityMetadata(types, KotlinResources, Bundles)
+    }
+
+    private fun describe(types: SortedMap<String, TypeMetadata>, clazz: Class<*>, queue: Deque<Class<*>>) {
+        val type = type(types, clazz)
+        type.allDeclaredConstructors = true
+        type.allDeclaredMethods = true
+        type.allDeclaredFields = true
+
+        val descriptor: BeanDescriptor = validator.getConstraintsForClass(clazz)
+        descriptor.constraintDescriptors.forEach { constraint(types, it) }
+        descriptor.constrainedProperties.forEach { propertyDescriptor ->
+            propertyDescriptor.constraintDescriptors.forEach { constraint(types, it) }
+            propertyDescriptor.constrainedContainerElementTypes.forEach { containerElementType ->
+                containerElementType.constraintDescriptors.forEach { constraint(types, it) }
+            }
+            cascadedClazz(propertyDescriptor)?.let { queue.addLast(it) }
+        }
+        descriptor.getConstrainedMethods(MethodType.NON_GETTER, MethodType.GETTER).forEach { methodDescriptor ->
+            methodDescriptor.returnValueDescriptor?.constraintDescriptors?.forEach { constraint(types, it) }
+        }
+    }
+
+    /** @return the data class cascaded into from the given property or null if there is none. */
+    private fun cascadedClazz(propertyDescriptor: PropertyDescriptor): Class<*>? {
+        if (!propertyDescriptor.isCascaded) return null
+        val clazz =
+            if (propertyDescriptor.constrainedContainerElementTypes.isNotEmpty()) {
+                propertyDescriptor.constrainedContainerElementTypes.first().elementClass
+            } else propertyDescriptor.elementClass
+        return if (clazz.kotlin.isData) clazz else null
+    }
+
+    private fun constraint(types: SortedMap<String, TypeMetadata>, constraintDescriptor: ConstraintDescriptor<*>) {
+        val annotationClazz = constraintDescriptor.annotation.annotationClass.java
+        annotation(types, annotationClazz)
+        constraintDescriptor.groups.forEach { type(types, it) }
+        constraintDescriptor.payload.forEach { type(types, it).allDeclaredConstructors = true }
+        constraintDescriptor.constraintValidatorClasses.forEach { type(types, it).allDeclaredConstructors = true }
+        if (annotationClazz != PostConstructValidation::class.java) {
+            val validators = try {
+                validator.findConstraintValidators(annotationClazz)
+            } catch (e: Exception) {
+                if (NonFatal.isNonFatal(e)) emptySet() else throw e
+            }
+            validators.forEach { type(types, it.javaClass).allDeclaredConstructors = true }
+        }
+        constraintDescriptor.composingConstraints.forEach { constraint(types, it) }
+    }
+
+    private fun annotation(types: SortedMap<String, TypeMetadata>, annotationClazz: Class<out Annotation>) {
+        // annotation attributes are read reflectively
+        type(types, annotationClazz).allDeclaredMethods = true
+    }
+
+    private fun type(types: SortedMap<String, TypeMetadata>, clazz: Class<*>): TypeMetadata =
+        types.getOrPut(clazz.name) { TypeMetadata(clazz.name) }
+}
@@ -1,6 +1,9 @@
 package angstromio.validation
 
+import angstromio.validation.engine.DescriptorCachePolicy
+import angstromio.validation.internal.engine.ValidationMetadata
 import angstromio.validation.internal.metadata.descriptor.ConstraintDescriptorFactory
+import angstromio.validation.internal.metadata.descriptor.LazyBeanDescriptor
 import io.kotest.assertions.fail
 import io.kotest.core.spec.style.FunSpec
 import io.kotest.matchers.be
@@ -9,6 +12,9 @@ import io.kotest.matchers.nulls.beNull
 import io.kotest.matchers.should
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNot
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import jakarta.validation.ConstraintDeclarationException
 import jakarta.validation.Validation
 import jakarta.validation.constraints.Future
 import jakarta.validation.constraints.Max
@@ -22,10 +28,12 @@ import org.hibernate.validator.HibernateValidator
 import org.hibernate.validator.HibernateValidatorConfiguration
 import org.hibernate.validator.internal.engine.ValidatorFactoryImpl
 import org.hibernate.validator.internal.engine.ValidatorFactoryInspector
+import org.junit.jupiter.api.assertThrows
 import java.time.LocalDate
 import kotlin.reflect.KTypeProjection
 import kotlin.reflect.KVariance
 import kotlin.reflect.full.createType
+import kotlin.reflect.full.primaryConstructor
 import kotlin.reflect.jvm.jvmErasure
 
 @Suppress("UNCHECKED_CAST")
@@ -39,7 +47,7 @@ class DescriptorFactoryTest : FunSpec() {
     private val constraintDescriptorFactory: ConstraintDescriptorFactory = ConstraintDescriptorFactory(validatorFactory)
 
     private val descriptorFactory: DescriptorFactory =
-        DescriptorFactory(128L, validatorFactory, constraintDescriptorFactory)
+        DescriptorFactory(DescriptorCachePolicy(), validatorFactory, constraintDescriptorFactory)
 
     init {
         test("DescriptorFactory#constructors") {
@@ -287,5 +295,109 @@ class DescriptorFactoryTest : FunSpec() {
             )
             parameterConstrainedContainerElementType.elementClass should be(String::class.java)
         }
+
+        test("DescriptorFactory#lazy executable descriptors") {
+            val description = descriptorFactory.describe(TestClasses.AlwaysFailsPostConstructValidation::class.java)
+            val lazyDescription = description as LazyBeanDescriptor
+            description.constrainedProperties.size shouldBeEqual 1
+            lazyDescription.postConstructValidationMethods.map { it.name } shouldBe listOf("checkId")
+            lazyDescription.isExecutablesInitialized should be(false)
+
+            description.getConstraintsForMethod("checkId") shouldNot beNull()
+            lazyDescription.isExecutablesInitialized should be(true)
+            description.constrainedConstructors.size shouldBeEqual 1
+        }
+
+        test("DescriptorFactory#interned constraint descriptors") {
+            val user = descriptorFactory.describe(TestClasses.User::class.java)
+            val customer = descriptorFactory.describe(TestClasses.Customer::class.java)
+            val userId = user.getConstraintsForProperty("id").constraintDescriptors.first()
+            val customerFirst = customer.getConstraintsForProperty("first").constraintDescriptors.first()
+            // equal @NotEmpty constraints on String properties
+            userId shouldBeSameInstanceAs customerFirst
+            // a different constraint
+            user.getConstraintsForProperty("gender").constraintDescriptors.first() shouldNotBeSameInstanceAs userId
+        }
+
+        test("DescriptorFactory#weigh") {
+            // @NotEmpty id, @OneOf gender
+            DescriptorFactory.weigh(descriptorFactory.describe(TestClasses.User::class.java)) shouldBeEqual 5
+            DescriptorFactory.weigh(descriptorFactory.describe(TestClasses.Customer::class.java)) shouldBeEqual 3
+        }
+
+        test("DescriptorFactory#pinned descriptors") {
+            val pinningDescriptorFactory = DescriptorFactory(
+                DescriptorCachePolicy(maximumSize = 0L, pinnedClasses = setOf(TestClasses.User::class.java)),
+                validatorFactory,
+                constraintDescriptorFactory
+            )
+            val description = pinningDescriptorFactory.describe(TestClasses.User::class.java)
+            pinningDescriptorFactory.describe(TestClasses.User::class.java) shouldBeSameInstanceAs description
+            pinningDescriptorFactory.describe(TestClasses.Customer::class.java)
+            pinningDescriptorFactory.stats().pinnedSize shouldBeEqual 1L
+            pinningDescriptorFactory.stats().missCount shouldBeEqual 1L
+        }
+
+        test("DescriptorFactory#auto-tuned descriptor cache") {
+            val autoTunedDescriptorFactory = DescriptorFactory(
+                DescriptorCachePolicy(maximumSize = 1L, autoTuneMaximum = 16L),
+                validatorFactory,
+                constraintDescriptorFactory
+            )
+            val clazzes = listOf(TestClasses.User::class.java, TestClasses.Customer::class.java, TestClasses.Person::class.java)
+            var index = 0
+            while (index < 8192) {
+                autoTunedDescriptorFactory.describe(clazzes[index % clazzes.size])
+                index += 1
+            }
+            // grows from 1 while the 3 cycled descriptors are evicted, bounded by the auto-tune maximum
+            val maximum = autoTunedDescriptorFactory.stats().maximum
+            (maximum > 1L && maximum <= 16L) shouldBe true
+        }
+
+        test("DescriptorFactory#evicted descriptors drop their plans") {
+            val metadata = ValidationMetadata(DescriptorCachePolicy(maximumSize = 1L), validatorFactory)
+            val clazzes = listOf(TestClasses.User::class.java, TestClasses.Customer::class.java, TestClasses.Person::class.java)
+            for (clazz in clazzes) {
+                val descriptor = metadata.descriptorFactory.describe(clazz)
+                metadata.getDataClassPlan(descriptor) shouldBeSameInstanceAs metadata.getDataClassPlan(descriptor)
+            }
+            metadata.descriptorFactory.cleanUp()
+            // only the plan of the remaining cached descriptor is retained
+            val cachedDescriptors = metadata.descriptorFactory.cachedDescriptors()
+            cachedDescriptors.size shouldBeEqual 1
+            metadata.dataClassPlans().keys shouldBeEqual cachedDescriptors.keys
+            // a rebuilt descriptor is compiled anew
+            val evicted = clazzes.first { !cachedDescriptors.containsKey(it) }
+            val descriptor = metadata.descriptorFactory.describe(evicted)
+            (descriptor as LazyBeanDescriptor).plan should beNull()
+            metadata.getDataClassPlan(descriptor).descriptor shouldBeSameInstanceAs descriptor
+            metadata.close()
+        }
+
+        test("DescriptorFactory#misconfigured methods are checked eagerly") {
+            assertThrows<ConstraintDeclarationException> {
+                descriptorFactory.describe(TestClasses.WithIncorrectlyDefinedPostConstructValidation::class.java)
+            }
+        }
+
+        test("DescriptorFactory#mix-in with inherited properties") {
+            val mixins = listOf(
+                TestClasses.RentalMixin::class.java,
+                TestClasses.InheritedRentalMixin::class.java,
+                TestClasses.AbstractRentalMixin::class.java,
+                TestClasses.InheritedAbstractRentalMixin::class.java
+            )
+            mixins.forEach { mixin ->
+                val descriptor = descriptorFactory.describe(TestClasses.Rental::class.primaryConstructor!!, mixin)
+                descriptor shouldNot beNull()
+                descriptor!!.parameterDescriptors.size shouldBeEqual 1
+                val parameterDescriptor = descriptor.parameterDescriptors.first()
+                parameterDescriptor.name should be("duration")
+                parameterDescriptor.constraintDescriptors.size shouldBeEqual 1
+                parameterDescriptor.constraintDescriptors.first().annotation.annotationClass should
+                        be(TestClasses.MinTen::class)
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package angstromio.validation
 
+import angstromio.validation.constraints.CacheableValidation
 import angstromio.validation.constraints.ConsistentDateParameters
+import angstromio.validation.constraints.ConstraintCost
 import angstromio.validation.constraints.CountryCode
 import angstromio.validation.constraints.InvalidConstraint
 import angstromio.validation.constraints.OneOf
@@ -10,25 +12,36 @@ import angstromio.validation.constraints.StateConstraintPayload
 import angstromio.validation.constraints.UUID
 import angstromio.validation.constraints.ValidPassengerCount
 import angstromio.validation.constraints.ValidPassengerCountReturnValue
+import angstromio.validation.engine.CancellationToken
 import angstromio.validation.engine.PostConstructValidationResult
 import com.fasterxml.jackson.annotation.JsonCreator
+import jakarta.validation.Constraint
+import jakarta.validation.GroupSequence
 import jakarta.validation.Payload
 import jakarta.validation.Valid
 import jakarta.validation.ValidationException
 import jakarta.validation.constraints.AssertTrue
+import jakarta.validation.constraints.DecimalMax
+import jakarta.validation.constraints.DecimalMin
 import jakarta.validation.constraints.Future
 import jakarta.validation.constraints.Max
 import jakarta.validation.constraints.Min
+import jakarta.validation.constraints.Negative
+import jakarta.validation.constraints.NegativeOrZero
 import jakarta.validation.constraints.NotBlank
 import jakarta.validation.constraints.NotEmpty
 import jakarta.validation.constraints.NotNull
 import jakarta.validation.constraints.Past
 import jakarta.validation.constraints.Pattern
+import jakarta.validation.constraints.Positive
+import jakarta.validation.constraints.PositiveOrZero
 import jakarta.validation.constraints.Size
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import java.beans.BeanProperty
 import java.time.LocalDate
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.reflect.KClass
 
 object OuterObject {
 
@@ -145,6 +158,35 @@ object TestClasses {
     // doesn't define any field
     interface RandoMixin
 
+    // a Java constraint annotation cannot target a Kotlin property, thus a composed constraint declared in Kotlin
+    @Min(10)
+    @Constraint(validatedBy = [])
+    @Target(AnnotationTarget.PROPERTY, AnnotationTarget.ANNOTATION_CLASS)
+    @Retention(AnnotationRetention.RUNTIME)
+    annotation class MinTen(
+        val message: String = "must be greater than or equal to 10",
+        val groups: Array<KClass<*>> = [],
+        val payload: Array<KClass<out Payload>> = []
+    )
+
+    data class Rental(val duration: Int)
+
+    interface RentalMixin {
+        @MinTen
+        val duration: Int
+    }
+
+    // inherits the annotated property
+    interface InheritedRentalMixin : RentalMixin
+
+    abstract class AbstractRentalMixin {
+        @MinTen
+        abstract val duration: Int
+    }
+
+    // inherits the annotated property
+    abstract class InheritedAbstractRentalMixin : AbstractRentalMixin()
+
     data class RentalStation(@NotNull val name: String) {
         fun rentCar(
             @NotNull customer: Customer,
@@ -169,8 +211,123 @@ object TestClasses {
     interface OtherCheck
     interface PersonCheck
 
+    interface BasicCheck
+    interface ExpensiveCheck
+
+    @GroupSequence(value = [BasicCheck::class, ExpensiveCheck::class])
+    interface OrderedChecks
+
+    @GroupSequence(value = [CyclicChecks::class, BasicCheck::class])
+    interface CyclicChecks
+
+    data class GroupSequenceExample(
+        @NotEmpty(groups = [BasicCheck::class]) val id: String,
+        @Size(min = 4, groups = [ExpensiveCheck::class]) val name: String
+    )
+
+    @GroupSequence(value = [RedefinedDefaultGroupSequenceExample::class, ExpensiveCheck::class])
+    data class RedefinedDefaultGroupSequenceExample(
+        @NotEmpty val id: String,
+        @Size(min = 4, groups = [ExpensiveCheck::class]) val name: String
+    )
+
+    data class RedefinedDefaultGroupSequenceHolder(
+        @Valid val example: RedefinedDefaultGroupSequenceExample,
+        @Valid val examples: List<RedefinedDefaultGroupSequenceExample> = emptyList()
+    )
+
     data class MinIntExample(@Min(1) val numberValue: Int)
 
+    data class FailFastExample(
+        @Pattern(regexp = "[a-z]+") val code: String,
+        @NotEmpty val id: String,
+        @Min(1) val count: Int
+    )
+
+    data class ConstraintCostExample(@Pattern(regexp = "[a-z]+") val code: String, val name: String) {
+        @ConstraintCost(ConstraintCost.CHEAP)
+        @PostConstructValidation(fields = ["name"])
+        fun checkName(): PostConstructValidationResult =
+            PostConstructValidationResult.validIfTrue({ name.isNotEmpty() }, { "cannot be empty" })
+    }
+
+    data class CyclicNode(@NotEmpty val name: String, @Valid var next: CyclicNode? = null) {
+        // identity semantics, the generated members do not terminate for a cyclic graph
+        override fun equals(other: Any?): Boolean = this === other
+        override fun hashCode(): Int = System.identityHashCode(this)
+        override fun toString(): String = "CyclicNode($name)"
+    }
+
+    data class SharedCustomers(
+        @Valid val primary: Customer,
+        @Valid val secondary: Customer,
+        @Valid val others: List<Customer>
+    )
+
+    data class CountedCheck(val id: String) {
+        companion object {
+            val Invocations: AtomicInteger = AtomicInteger(0)
+        }
+
+        @PostConstructValidation
+        fun check(): PostConstructValidationResult {
+            Invocations.incrementAndGet()
+            return PostConstructValidationResult.validIfTrue({ id.isNotEmpty() }, { "id cannot be empty" })
+        }
+    }
+
+    data class CountedChecks(@Valid val first: CountedCheck, @Valid val second: CountedCheck)
+
+    data class TreeNode(@NotEmpty val name: String, @Valid val children: List<TreeNode> = emptyList())
+
+    data class SizedUsers(@Size(max = 1) @Valid val users: List<User>)
+
+    data class CancellingUser(@NotEmpty val id: String, val cancellationToken: CancellationToken) {
+        @PostConstructValidation
+        fun cancel(): PostConstructValidationResult {
+            cancellationToken.cancel()
+            return PostConstructValidationResult.Valid
+        }
+    }
+
+    data class CancellingUsers(@Valid val users: List<CancellingUser>)
+
+    // no synthetic instance for CDS training
+    data class WithCallback(@NotEmpty val id: String, val callback: Runnable)
+
+    @CacheableValidation
+    data class CacheableMutableExample(@Min(1) var id: Int, val tags: List<String>) {
+        @PostConstructValidation
+        fun checkId(): PostConstructValidationResult =
+            PostConstructValidationResult.validIfTrue({ id < 10 }, { "id must be less than 10" })
+    }
+
+    @CacheableValidation
+    data class CacheablePostConstructValidationExample(@Min(1) val id: Int) {
+        @PostConstructValidation
+        fun checkId(): PostConstructValidationResult =
+            PostConstructValidationResult.validIfTrue({ id < 10 }, { "id must be less than 10" })
+    }
+
+    data class NonCacheablePostConstructValidationExample(@Min(1) val id: Int) {
+        @PostConstructValidation
+        fun checkId(): PostConstructValidationResult =
+            PostConstructValidationResult.validIfTrue({ id < 10 }, { "id must be less than 10" })
+    }
+
+    data class NonCacheableListExample(@Size(min = 1) val values: List<String>)
+
+    data class PrimitiveRangesExample(
+        @Min(1) @Max(10) val intValue: Int,
+        @Positive val longValue: Long,
+        @PositiveOrZero val shortValue: Short,
+        @Negative val byteValue: Byte,
+        @NegativeOrZero val negativeDoubleValue: Double,
+        @DecimalMin("0.5") @DecimalMax("10.5") val doubleValue: Double,
+        @DecimalMin(value = "0", inclusive = false) @Max(3) val floatValue: Float,
+        @Min(value = 1, groups = [PersonCheck::class]) val groupedValue: Int
+    )
+
     // CountryCode
     data class CountryCodeExample(@CountryCode val countryCode: String)
     data class CountryCodeOptionExample(@CountryCode val countryCode: String?)
@@ -212,6 +369,9 @@ object TestClasses {
     }
 
     data class CountryCodeInvalidTypeExample(@CountryCode val countryCode: Long)
+    data class CountryCodeFormatsExample(
+        @CountryCode(formats = [CountryCode.Format.ALPHA_3, CountryCode.Format.NUMERIC]) val countryCode: Any
+    )
     data class CountryCodeOptionInvalidTypeExample(@CountryCode val countryCode: Long?)
 
     // OneOf
@@ -221,10 +381,23 @@ object TestClasses {
     data class OneOfOptionListExample(@OneOf(value = ["a", "B", "c"]) val enumValue: List<String>?)
     data class OneOfInvalidTypeExample(@OneOf(value = ["a", "B", "c"]) val enumValue: Long)
     data class OneOfOptionInvalidTypeExample(@OneOf(value = ["a", "B", "c"]) val enumValue: Long?)
+    @Suppress("EnumEntryName")
+    enum class OneOfEnum { a, B, d }
+    enum class OneOfDisplayEnum(private val display: String) {
+        A("a"), D("d");
+
+        override fun toString(): String = display
+    }
+    data class OneOfEnumExample(@OneOf(value = ["a", "B", "c"]) val enumValue: OneOfEnum)
+    data class OneOfEnumSetExample(@OneOf(value = ["a", "B", "c"]) val enumValue: Set<OneOfEnum>)
+    data class OneOfDisplayEnumExample(@OneOf(value = ["a", "B", "c"]) val enumValue: OneOfDisplayEnum)
 
     // UUID
     data class UUIDExample(@UUID val uuid: String)
     data class UUIDOptionExample(@UUID val uuid: String?)
+    data class UUIDVersionExample(
+        @UUID(versions = [4, 7], variant = UUID.Variant.RFC_4122, lowercase = true) val uuid: String
+    )
 
     data class NestedOptionExample(
         @NotEmpty val id: String,
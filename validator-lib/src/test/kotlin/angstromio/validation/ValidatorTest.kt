@@ -2,6 +2,7 @@ package angstromio.validation
 
 import angstromio.util.extensions.Anys.isInstanceOf
 import angstromio.validation.cfg.ConstraintMapping
+import angstromio.validation.constraints.AlwaysInvalidIntConstraintValidator
 import angstromio.validation.constraints.CountryCode
 import angstromio.validation.constraints.ISO3166CountryCodeConstraintValidator
 import angstromio.validation.constraints.InvalidConstraint
@@ -13,6 +14,12 @@ import angstromio.validation.constraints.StateConstraint
 import angstromio.validation.constraints.StateConstraintPayload
 import angstromio.validation.constraints.ValidPassengerCount
 import angstromio.validation.constraints.ValidPassengerCountConstraintValidator
+import angstromio.validation.engine.CancellationToken
+import angstromio.validation.engine.ValidationLimitExceededException
+import angstromio.validation.engine.ValidationLimits
+import angstromio.validation.engine.ValidationMetadataRegistry
+import angstromio.validation.engine.ValidationResult
+import angstromio.validation.engine.ValidationTimeoutException
 import angstromio.validation.extensions.getDynamicPayload
 import io.kotest.matchers.be
 import io.kotest.matchers.equals.shouldBeEqual
@@ -23,6 +30,7 @@ import jakarta.validation.ConstraintDeclarationException
 import jakarta.validation.ConstraintValidator
 import jakarta.validation.ConstraintViolation
 import jakarta.validation.ConstraintViolationException
+import jakarta.validation.GroupDefinitionException
 import jakarta.validation.MessageInterpolator
 import jakarta.validation.UnexpectedTypeException
 import jakarta.validation.Validation
@@ -44,6 +52,7 @@ import org.hibernate.validator.HibernateValidatorConfiguration
 import org.hibernate.validator.internal.util.annotation.AnnotationDescriptor
 import org.hibernate.validator.internal.util.annotation.AnnotationFactory
 import org.junit.jupiter.api.assertThrows
+import java.time.Duration
 import java.time.LocalDate
 import java.util.*
 import kotlin.reflect.KTypeProjection
@@ -619,6 +628,500 @@ class ValidatorTest : AssertViolationTest() {
             )
         }
 
+        test("DataClassValidator#primitive numeric constraints") {
+            val valid = TestClasses.PrimitiveRangesExample(
+                intValue = 10,
+                longValue = 1L,
+                shortValue = 0,
+                byteValue = -1,
+                negativeDoubleValue = -0.0,
+                doubleValue = 0.5,
+                floatValue = 3.0f,
+                groupedValue = 0
+            )
+            assertViolations(obj = valid)
+
+            val invalid = TestClasses.PrimitiveRangesExample(
+                intValue = 11,
+                longValue = 0L,
+                shortValue = -1,
+                byteValue = 0,
+                negativeDoubleValue = 1.0,
+                doubleValue = 10.500001,
+                floatValue = -0.0f,
+                groupedValue = 0
+            )
+            val violations = validator.validate(invalid)
+            violations.map { it.propertyPath.toString() }.sorted() shouldBeEqual listOf(
+                "byteValue", "doubleValue", "floatValue", "intValue", "longValue", "negativeDoubleValue", "shortValue"
+            )
+            violations.find { it.propertyPath.toString() == "floatValue" }?.message should be("must be greater than 0")
+            validator.validate(invalid, TestClasses.PersonCheck::class.java)
+                .map { it.propertyPath.toString() } shouldBeEqual listOf("groupedValue")
+
+            // boundary values
+            val boundaries = listOf(
+                valid.copy(intValue = Int.MIN_VALUE, longValue = Long.MAX_VALUE, shortValue = Short.MAX_VALUE) to
+                        setOf("intValue"),
+                valid.copy(negativeDoubleValue = 0.0, doubleValue = 0.49999999999999994) to setOf("doubleValue"),
+                valid.copy(
+                    negativeDoubleValue = Double.NEGATIVE_INFINITY,
+                    doubleValue = 10.5,
+                    floatValue = 3.0000002f
+                ) to setOf("floatValue"),
+                valid.copy(floatValue = Float.MIN_VALUE, doubleValue = Double.POSITIVE_INFINITY) to setOf("doubleValue")
+            )
+            boundaries.forEach { (value, expected) ->
+                validator.validate(value).map { it.propertyPath.toString() }.toSet() shouldBeEqual expected
+            }
+        }
+
+        test("DataClassValidator#primitive numeric constraints with custom validator") {
+            val withCustomMinValidator = DataClassValidator.builder()
+                .withConstraintMapping(
+                    ConstraintMapping(
+                        Min::class.java,
+                        AlwaysInvalidIntConstraintValidator::class.java,
+                        includeExistingValidators = false
+                    )
+                )
+                .validator()
+            try {
+                val violations = withCustomMinValidator.validate(TestClasses.MinIntExample(numberValue = 2))
+                violations.size shouldBeEqual 1
+                violations.first().propertyPath.toString() should be("numberValue")
+            } finally {
+                withCustomMinValidator.close()
+            }
+        }
+
+        test("DataClassValidator#result cache") {
+            validator.resultCacheStats() should beNull()
+
+            val withResultCache = DataClassValidator.builder()
+                .withResultCache(16)
+                .validator()
+            try {
+                val violations = withResultCache.validate(TestClasses.MinIntExample(numberValue = 0))
+                violations.size shouldBeEqual 1
+                withResultCache.validate(TestClasses.MinIntExample(numberValue = 0)) shouldBeEqual violations
+                withResultCache.validate(TestClasses.MinIntExample(numberValue = 2)).isEmpty() should be(true)
+                // different groups are cached separately
+                withResultCache
+                    .validate(TestClasses.MinIntExample(numberValue = 0), TestClasses.PersonCheck::class.java)
+                    .isEmpty() should be(true)
+
+                // annotated with @CacheableValidation
+                withResultCache
+                    .validate(TestClasses.CacheablePostConstructValidationExample(id = 10)).size shouldBeEqual 1
+                withResultCache
+                    .validate(TestClasses.CacheablePostConstructValidationExample(id = 10)).size shouldBeEqual 1
+
+                // annotated with @CacheableValidation, but mutable
+                val mutable = TestClasses.CacheableMutableExample(id = 0, tags = emptyList())
+                withResultCache.validate(mutable).size shouldBeEqual 1
+                mutable.id = 5
+                withResultCache.validate(mutable).isEmpty() should be(true)
+
+                // not cacheable
+                withResultCache
+                    .validate(TestClasses.NonCacheablePostConstructValidationExample(id = 10)).size shouldBeEqual 1
+                withResultCache
+                    .validate(TestClasses.NonCacheablePostConstructValidationExample(id = 10)).size shouldBeEqual 1
+                withResultCache.validate(TestClasses.NonCacheableListExample(emptyList())).size shouldBeEqual 1
+
+                val stats = withResultCache.resultCacheStats()!!
+                stats.hitCount shouldBeEqual 2L
+                stats.missCount shouldBeEqual 4L
+            } finally {
+                withResultCache.close()
+            }
+
+            val withClazzResultCache = DataClassValidator.builder()
+                .withResultCache(16, setOf(TestClasses.CacheablePostConstructValidationExample::class.java))
+                .validator()
+            try {
+                withClazzResultCache.validate(TestClasses.MinIntExample(numberValue = 0))
+                withClazzResultCache.validate(TestClasses.MinIntExample(numberValue = 0))
+                withClazzResultCache.resultCacheStats()!!.missCount shouldBeEqual 0L
+            } finally {
+                withClazzResultCache.close()
+            }
+        }
+
+        test("DataClassValidator#fail fast") {
+            val invalid = TestClasses.FailFastExample(code = "123", id = "", count = 0)
+            validator.validate(invalid).size shouldBeEqual 3
+
+            val failFastValidator = DataClassValidator.builder()
+                .withFailFast(true)
+                .validator()
+            try {
+                // cheap constraints are evaluated first
+                val violations = failFastValidator.validate(invalid)
+                violations.size shouldBeEqual 1
+                setOf("id", "count").contains(violations.first().propertyPath.toString()) should be(true)
+                failFastValidator.validate(invalid.copy(id = "1234", count = 1))
+                    .first().propertyPath.toString() should be("code")
+                failFastValidator.validate(invalid.copy(code = "abc", id = "1234", count = 1)).isEmpty() should be(true)
+
+                // a @PostConstructValidation declared as cheap is evaluated before an expensive @Pattern
+                val constraintCostViolations =
+                    failFastValidator.validate(TestClasses.ConstraintCostExample(code = "123", name = ""))
+                constraintCostViolations.size shouldBeEqual 1
+                constraintCostViolations.first().propertyPath.toString() should be("checkName.name")
+
+                // stops at the first invalid element of a cascaded collection
+                val users = TestClasses.Users(
+                    users = listOf(
+                        TestClasses.User(id = "", name = "Bob", gender = "M"),
+                        TestClasses.User(id = "", name = "Alice", gender = "F")
+                    )
+                )
+                validator.validate(users).size shouldBeEqual 2
+                failFastValidator.validate(users).size shouldBeEqual 1
+            } finally {
+                failFastValidator.close()
+            }
+        }
+
+        test("DataClassValidator#isValid") {
+            validator.isValid(TestClasses.FailFastExample(code = "123", id = "", count = 0)) should be(false)
+            validator.isValid(TestClasses.FailFastExample(code = "abc", id = "1234", count = 1)) should be(true)
+            validator.isValid(TestClasses.WithPersonCheck(id = "", name = "Jane Doe")) should be(true)
+            validator.isValid(
+                TestClasses.WithPersonCheck(id = "", name = "Jane Doe"),
+                TestClasses.PersonCheck::class.java
+            ) should be(false)
+        }
+
+        test("DataClassValidator#validateChanged") {
+            val previous = TestClasses.User(id = "", name = "", gender = "X")
+            val previousViolations = validator.validate(previous)
+            previousViolations.size shouldBeEqual 3
+
+            // unchanged
+            val unchanged = previous.copy()
+            val unchangedViolations = validator.validateChanged(previous, unchanged, previousViolations)
+            unchangedViolations.map { it.propertyPath.toString() }.toSet() shouldBeEqual
+                    previousViolations.map { it.propertyPath.toString() }.toSet()
+            unchangedViolations.forEach { violation ->
+                (violation.rootBean === unchanged) should be(true)
+                (violation.leafBean === unchanged) should be(true)
+            }
+
+            // gender changed to a valid value
+            val current = previous.copy(gender = "M")
+            val violations = validator.validateChanged(previous, current, previousViolations)
+            violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual setOf("id", "nameCheck.name")
+            violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual
+                    validator.validate(current).map { it.propertyPath.toString() }.toSet()
+            violations.forEach { violation -> (violation.rootBean === current) should be(true) }
+
+            // id and name changed to valid values, gender changed to another invalid value
+            val another = previous.copy(id = "1234", name = "Bob", gender = "Y")
+            val anotherViolations = validator.validateChanged(previous, another, previousViolations)
+            anotherViolations.size shouldBeEqual 1
+            val violation = anotherViolations.first()
+            violation.propertyPath.toString() shouldBeEqual "gender"
+            violation.invalidValue shouldBeEqual "Y"
+
+            // cascaded properties
+            val previousUsers = TestClasses.Users(users = listOf(previous))
+            val previousUsersViolations = validator.validate(previousUsers)
+            previousUsersViolations.size shouldBeEqual 3
+            val currentUsers = TestClasses.Users(users = listOf(current))
+            validator.validateChanged(previousUsers, currentUsers, previousUsersViolations)
+                .map { it.propertyPath.toString() }.toSet() shouldBeEqual
+                    setOf("users[0].id", "users[0].nameCheck.name")
+
+            assertThrows<IllegalArgumentException> {
+                validator.validateChanged<Any>(previous, previousUsers, emptySet())
+            }
+        }
+
+        test("DataClassValidator#validateChanged fail fast") {
+            val failFastValidator = DataClassValidator.builder()
+                .withFailFast(true)
+                .validator()
+            try {
+                val previous = TestClasses.User(id = "", name = "", gender = "X")
+                val previousViolations = failFastValidator.validate(previous)
+                previousViolations.size shouldBeEqual 1
+
+                // at most one violation is carried over
+                val unchanged = previous.copy()
+                failFastValidator.validateChanged(previous, unchanged, previousViolations)
+                    .map { it.propertyPath.toString() } shouldBeEqual
+                        previousViolations.map { it.propertyPath.toString() }
+
+                // stops at the first changed property which reports a violation
+                val another = previous.copy(id = "1234", name = "Bob", gender = "Y")
+                val anotherViolations = failFastValidator.validateChanged(previous, another, previousViolations)
+                anotherViolations.size shouldBeEqual 1
+                anotherViolations.first().propertyPath.toString() shouldBeEqual "gender"
+
+                // cascaded properties fail fast
+                val previousUsers = TestClasses.Users(users = listOf(another))
+                val currentUsers = TestClasses.Users(users = listOf(previous, previous.copy(id = "1")))
+                failFastValidator.validateChanged(
+                    previousUsers, currentUsers, failFastValidator.validate(previousUsers)
+                ).size shouldBeEqual 1
+            } finally {
+                failFastValidator.close()
+            }
+        }
+
+        test("DataClassValidator#cyclic object graph") {
+            val first = TestClasses.CyclicNode(name = "")
+            val second = TestClasses.CyclicNode(name = "", next = first)
+            first.next = second
+
+            val violations = validator.validate(first)
+            violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual setOf("name", "next.name")
+        }
+
+        test("DataClassValidator#deep object graph") {
+            // deeper than the thread stack allows for a recursive traversal
+            val depth = 10_000
+            val root = newDeepGraph(depth)
+
+            val violations = validator.validate(root)
+            violations.size shouldBeEqual 1
+            violations.first().propertyPath.toString() shouldBeEqual
+                    List(depth - 1) { "next" }.joinToString(".") + ".name"
+        }
+
+        test("DataClassValidator#deep object graph fail fast") {
+            val depth = 10_000
+            val root = newDeepGraph(depth)
+            validator.isValid(root) should be(false)
+            validator.isValid(newDeepGraph(depth, leafName = "leaf")) should be(true)
+
+            val failFastValidator = DataClassValidator.builder()
+                .withFailFast(true)
+                .validator()
+            try {
+                val violations = failFastValidator.validate(root)
+                violations.size shouldBeEqual 1
+                violations.first().propertyPath.toString() shouldBeEqual
+                        List(depth - 1) { "next" }.joinToString(".") + ".name"
+            } finally {
+                failFastValidator.close()
+            }
+        }
+
+        test("DataClassValidator#deep object graph of a property") {
+            val depth = 10_000
+            val root = newDeepGraph(depth)
+            val expectedPath = List(depth - 1) { "next" }.joinToString(".") + ".name"
+
+            val valueViolations = validator.validateValue(TestClasses.CyclicNode::class.java, "next", root.next)
+            valueViolations.size shouldBeEqual 1
+            valueViolations.first().propertyPath.toString() shouldBeEqual expectedPath
+
+            val previous = TestClasses.CyclicNode(name = "root")
+            val changedViolations = validator.validateChanged(previous, root, validator.validate(previous))
+            changedViolations.size shouldBeEqual 1
+            changedViolations.first().propertyPath.toString() shouldBeEqual expectedPath
+        }
+
+        test("DataClassValidator#cascaded violation order") {
+            val users = TestClasses.Users(
+                users = listOf(
+                    TestClasses.User(id = "", name = "", gender = "M"),
+                    TestClasses.User(id = "1", name = "Alice", gender = "X"),
+                    TestClasses.User(id = "", name = "Eve", gender = "F")
+                )
+            )
+            validator.validate(users).map { it.propertyPath.toString() } shouldBeEqual listOf(
+                "users[0].id",
+                "users[0].nameCheck.name",
+                "users[1].gender",
+                "users[2].id"
+            )
+        }
+
+        test("DataClassValidator#shared instances") {
+            val customer = TestClasses.Customer(first = "", last = "Doe")
+            val violations = validator.validate(
+                TestClasses.SharedCustomers(primary = customer, secondary = customer, others = listOf(customer))
+            )
+            violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual
+                    setOf("primary.first", "secondary.first", "others[0].first")
+            violations.forEach { violation -> (violation.leafBean === customer) should be(true) }
+
+            // a shared instance is only validated once per validation call
+            val check = TestClasses.CountedCheck(id = "")
+            val before = TestClasses.CountedCheck.Invocations.get()
+            val checkViolations = validator.validate(TestClasses.CountedChecks(first = check, second = check))
+            TestClasses.CountedCheck.Invocations.get() - before shouldBeEqual 1
+            checkViolations.map { it.propertyPath.toString() }.toSet() shouldBeEqual
+                    setOf("first.check", "second.check")
+        }
+
+        test("DataClassValidator#limits") {
+            val users = TestClasses.Users(
+                users = listOf(
+                    TestClasses.User(id = "", name = "Bob", gender = "M"),
+                    TestClasses.User(id = "", name = "Alice", gender = "F"),
+                    TestClasses.User(id = "", name = "Eve", gender = "F")
+                )
+            )
+            val tree = TestClasses.TreeNode(
+                name = "",
+                children = listOf(TestClasses.TreeNode(name = "", children = listOf(TestClasses.TreeNode(name = ""))))
+            )
+            val invalid = TestClasses.FailFastExample(code = "123", id = "", count = 0)
+
+            val limitedValidator = DataClassValidator.builder()
+                .withLimits(maxViolations = 2, maxDepth = 1, maxCollectionElements = 2)
+                .validator()
+            val nodesLimitedValidator = DataClassValidator.builder()
+                .withLimits(maxNodesVisited = 1)
+                .validator()
+            try {
+                val completeResult = validator.validateAll(users)
+                (completeResult is ValidationResult.Complete) should be(true)
+                completeResult.violations.size shouldBeEqual 3
+
+                // collection elements
+                val elementsResult = limitedValidator.validateAll(users)
+                (elementsResult as ValidationResult.Truncated).limit should be(ValidationLimits.Limit.COLLECTION_ELEMENTS)
+                elementsResult.violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual
+                        setOf("users[0].id", "users[1].id")
+                val e = assertThrows<ValidationLimitExceededException> { limitedValidator.validate(users) }
+                e.limit should be(ValidationLimits.Limit.COLLECTION_ELEMENTS)
+                e.violations.size shouldBeEqual 2
+
+                // depth
+                val depthResult = limitedValidator.validateAll(tree)
+                (depthResult as ValidationResult.Truncated).limit should be(ValidationLimits.Limit.DEPTH)
+                depthResult.violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual
+                        setOf("name", "children[0].name")
+                validator.validate(tree).size shouldBeEqual 3
+
+                // violations
+                val violationsResult = limitedValidator.validateAll(invalid)
+                (violationsResult as ValidationResult.Truncated).limit should be(ValidationLimits.Limit.VIOLATIONS)
+                violationsResult.violations.size shouldBeEqual 2
+
+                // nodes visited
+                val nodesResult = nodesLimitedValidator.validateAll(users)
+                (nodesResult as ValidationResult.Truncated).limit should be(ValidationLimits.Limit.NODES_VISITED)
+                nodesResult.violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual setOf("users[0].id")
+
+                // a truncated validation is never valid
+                val validUsers = TestClasses.Users(
+                    users = listOf(
+                        TestClasses.User(id = "1", name = "Bob", gender = "M"),
+                        TestClasses.User(id = "2", name = "Alice", gender = "F")
+                    )
+                )
+                validator.isValid(validUsers) should be(true)
+                nodesLimitedValidator.isValid(validUsers) should be(false)
+
+                // the elements of a collection violating its @Size are not visited
+                val sizedUsers = TestClasses.SizedUsers(users = users.users)
+                validator.validate(sizedUsers).size shouldBeEqual 4
+                val sizedResult = nodesLimitedValidator.validateAll(sizedUsers)
+                (sizedResult is ValidationResult.Complete) should be(true)
+                sizedResult.violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual setOf("users")
+
+                assertThrows<IllegalArgumentException> {
+                    DataClassValidator.builder().withLimits(maxViolations = 0)
+                }
+            } finally {
+                limitedValidator.close()
+                nodesLimitedValidator.close()
+            }
+        }
+
+        test("DataClassValidator#cancellation") {
+            val invalid = TestClasses.FailFastExample(code = "123", id = "", count = 0)
+            val expired = CancellationToken.withTimeout(Duration.ZERO)
+            val timedOut = validator.validateAll(invalid, expired)
+            (timedOut is ValidationResult.TimedOut) should be(true)
+            timedOut.violations.isEmpty() should be(true)
+            assertThrows<ValidationTimeoutException> { validator.validate(invalid, expired) }
+
+            val token = CancellationToken.withTimeout(Duration.ofHours(1))
+            val complete = validator.validateAll(invalid, token)
+            (complete is ValidationResult.Complete) should be(true)
+            complete.violations.size shouldBeEqual 3
+            validator.validate(invalid, token).size shouldBeEqual 3
+
+            // cancelled while validating the first element of a cascaded collection
+            val cancellationToken = CancellationToken()
+            val users = TestClasses.CancellingUsers(
+                users = listOf(
+                    TestClasses.CancellingUser(id = "", cancellationToken = cancellationToken),
+                    TestClasses.CancellingUser(id = "", cancellationToken = cancellationToken)
+                )
+            )
+            val partial = validator.validateAll(users, cancellationToken)
+            (partial is ValidationResult.TimedOut) should be(true)
+            partial.violations.map { it.propertyPath.toString() }.toSet() shouldBeEqual setOf("users[0].id")
+        }
+
+        test("DataClassValidator#fast bootstrap") {
+            val fastValidator = DataClassValidator.builder()
+                .withFastBootstrap(true)
+                .validator()
+            try {
+                val user = TestClasses.User(id = "", name = "", gender = "X")
+                fastValidator.validate(user).map { it.propertyPath.toString() to it.message }.toSet() shouldBeEqual
+                        validator.validate(user).map { it.propertyPath.toString() to it.message }.toSet()
+            } finally {
+                fastValidator.close()
+            }
+        }
+
+        test("DataClassValidator#shared metadata registry") {
+            val registry = ValidationMetadataRegistry()
+            val validator1 = DataClassValidator.builder()
+                .withMetadataRegistry(registry)
+                .validator()
+            val validator2 = DataClassValidator.builder()
+                .withMessageInterpolator(WrongMessageInterpolator())
+                .withMetadataRegistry(registry)
+                .validator()
+            val withPathConstraintValidator = DataClassValidator.builder()
+                .withConstraintMapping(ConstraintMapping(NotEmpty::class.java, NotEmptyPathConstraintValidator::class.java))
+                .withMetadataRegistry(registry)
+                .validator()
+            val fastValidator = DataClassValidator.builder()
+                .withFastBootstrap(true)
+                .withMetadataRegistry(registry)
+                .validator()
+            try {
+                // descriptors are shared, messages are interpolated per validator
+                validator1.getConstraintsForClass(TestClasses.User::class.java) should
+                        be(validator2.getConstraintsForClass(TestClasses.User::class.java))
+                val user = TestClasses.User(id = "", name = "", gender = "F")
+                validator1.validate(user).first().message should be("must not be empty")
+                validator2.validate(user).first().message should be("Whatever you entered was wrong")
+
+                // constraint mappings are not shared
+                withPathConstraintValidator.validate(TestClasses.PathNotEmpty(TestClasses.TestPath.Empty, "abcd1234")).size should be(1)
+                registry.size should be(2)
+
+                // neither are bootstrap modes
+                fastValidator.getConstraintsForClass(TestClasses.User::class.java) shouldNot
+                        be(validator1.getConstraintsForClass(TestClasses.User::class.java))
+                registry.size should be(3)
+
+                // closing a validator does not close the shared metadata
+                validator1.close()
+                validator2.validate(user).size should be(1)
+            } finally {
+                validator2.close()
+                withPathConstraintValidator.close()
+                fastValidator.close()
+                registry.close()
+            }
+        }
+
         test("DataClassValidator#validateFieldValue") {
             val constraints: Map<Class<out Annotation>, Map<String, Any>> =
                 mapOf(jakarta.validation.constraints.Size::class.java to mapOf("min" to 5, "max" to 7))
@@ -740,6 +1243,85 @@ class ValidatorTest : AssertViolationTest() {
             )
         }
 
+        test("DataClassValidator#group sequence support") {
+            val invalid = TestClasses.GroupSequenceExample(id = "", name = "Bo")
+            // not a sequence, all groups are evaluated
+            validator.validate(invalid, TestClasses.BasicCheck::class.java, TestClasses.ExpensiveCheck::class.java)
+                .size shouldBeEqual 2
+            // the sequence stops at the first group with violations
+            assertViolations(
+                obj = invalid,
+                groups = listOf(TestClasses.OrderedChecks::class.java),
+                withViolations = listOf(
+                    WithViolation("id", "must not be empty", "", TestClasses.GroupSequenceExample::class.java, invalid)
+                )
+            )
+            val invalidName = invalid.copy(id = "1234")
+            assertViolations(
+                obj = invalidName,
+                groups = listOf(TestClasses.OrderedChecks::class.java),
+                withViolations = listOf(
+                    WithViolation(
+                        "name",
+                        "size must be between 4 and 2147483647",
+                        "Bo",
+                        TestClasses.GroupSequenceExample::class.java,
+                        invalidName
+                    )
+                )
+            )
+            validator.validateProperty(invalid, "name", TestClasses.OrderedChecks::class.java).isEmpty() should be(true)
+            validator.validate(invalid.copy(id = "1234", name = "Bobby"), TestClasses.OrderedChecks::class.java)
+                .isEmpty() should be(true)
+
+            assertThrows<GroupDefinitionException> {
+                validator.validate(invalid, TestClasses.CyclicChecks::class.java)
+            }
+        }
+
+        test("DataClassValidator#redefined default group sequence") {
+            val invalid = TestClasses.RedefinedDefaultGroupSequenceExample(id = "", name = "Bo")
+            assertViolations(
+                obj = invalid,
+                withViolations = listOf(
+                    WithViolation(
+                        "id",
+                        "must not be empty",
+                        "",
+                        TestClasses.RedefinedDefaultGroupSequenceExample::class.java,
+                        invalid
+                    )
+                )
+            )
+            val invalidName = invalid.copy(id = "1234")
+            val violations = validator.validate(invalidName)
+            violations.size shouldBeEqual 1
+            violations.first().propertyPath.toString() shouldBeEqual "name"
+            // explicitly requested groups are not sequenced
+            validator.validate(invalid, TestClasses.ExpensiveCheck::class.java).size shouldBeEqual 1
+        }
+
+        test("DataClassValidator#redefined default group sequence of a cascaded class") {
+            val invalid = TestClasses.RedefinedDefaultGroupSequenceExample(id = "", name = "Bo")
+            val invalidName = invalid.copy(id = "1234")
+            val holder = TestClasses.RedefinedDefaultGroupSequenceHolder(
+                example = invalid,
+                examples = listOf(invalidName, invalid)
+            )
+            validator.validate(holder).map { it.propertyPath.toString() } shouldBeEqual
+                    listOf("example.id", "examples[0].name", "examples[1].id")
+            validator.validateValue(
+                TestClasses.RedefinedDefaultGroupSequenceHolder::class.java, "example", invalidName
+            ).map { it.propertyPath.toString() } shouldBeEqual listOf("example.name")
+            validator.isValid(holder.copy(example = invalidName, examples = emptyList())) should be(false)
+            validator.isValid(
+                holder.copy(example = invalid.copy(id = "1234", name = "Bobby"), examples = emptyList())
+            ) should be(true)
+
+            // explicitly requested groups are not sequenced
+            validator.validate(holder, TestClasses.ExpensiveCheck::class.java).size shouldBeEqual 3
+        }
+
         test("DataClassValidator#isCascaded post construct validation - defined fields") {
             // nested post construct validation fields
             val owner = TestClasses.Person(id = "", name = "A. Einstein", address = DefaultAddress)
@@ -974,6 +1556,79 @@ class ValidatorTest : AssertViolationTest() {
             dataClassValidator.descriptorCacheSize should be(customizedCacheSize)
         }
 
+        test("DataClassValidator#withDescriptorCache pins descriptors and reports statistics") {
+            val dataClassValidator = DataClassValidator.builder()
+                .withDescriptorCache(
+                    maximumSize = 16,
+                    pinnedClasses = setOf(TestClasses.User::class.java),
+                    softValues = true
+                )
+                .validator()
+            try {
+                dataClassValidator.getConstraintsForClass(TestClasses.User::class.java)
+                dataClassValidator.getConstraintsForClass(TestClasses.Customer::class.java)
+                dataClassValidator.getConstraintsForClass(TestClasses.Customer::class.java)
+                val stats = dataClassValidator.descriptorCacheStats()
+                stats.pinnedSize should be(1L)
+                stats.maximum should be(16L)
+                // pinned descriptors are not looked up in the cache
+                stats.missCount should be(1L)
+                stats.hitCount should be(1L)
+                stats.hitRate should be(0.5)
+            } finally {
+                dataClassValidator.close()
+            }
+        }
+
+        test("DataClassValidator#withDescriptorCache weighted") {
+            val dataClassValidator = DataClassValidator.builder()
+                .withDescriptorCache(maximumWeight = 1024)
+                .validator()
+            try {
+                dataClassValidator.validate(TestClasses.User(id = "", name = "April", gender = "F")).size should be(1)
+                dataClassValidator.descriptorCacheStats().maximum should be(1024L)
+            } finally {
+                dataClassValidator.close()
+            }
+        }
+
+        test("DataClassValidator#footprint") {
+            val dataClassValidator = DataClassValidator.builder()
+                .withDescriptorCache(pinnedClasses = setOf(TestClasses.Customer::class.java))
+                .validator()
+            try {
+                dataClassValidator.validate(TestClasses.User(id = "", name = "April", gender = "F")).size should be(1)
+                dataClassValidator.validate(TestClasses.Customer(first = "Jane", last = "Smith")).isEmpty() should be(true)
+                val before = dataClassValidator.footprint()
+                before.classes.map { it.clazz }.toSet() should
+                        be(setOf(TestClasses.User::class.java, TestClasses.Customer::class.java))
+                val user = before.classes.first { it.clazz == TestClasses.User::class.java }
+                (user.descriptorSize > 0L) should be(true)
+                (user.planSize > 0L) should be(true)
+                user.executableSize should be(0L)
+                user.isPinned should be(false)
+                before.classes.first { it.clazz == TestClasses.Customer::class.java }.isPinned should be(true)
+                (before.constraintDescriptorCount > 0L) should be(true)
+                (before.constraintDescriptorsSize > 0L) should be(true)
+                before.isSharedMetadata should be(false)
+                before.size should be(before.classes.sumOf { it.size } + before.constraintDescriptorsSize +
+                        before.initializedValidatorsSize + before.memoizedSize)
+
+                // method and constructor descriptors are built on first access
+                dataClassValidator.getConstraintsForClass(TestClasses.User::class.java).constrainedConstructors
+                val after = dataClassValidator.footprint()
+                (after.classes.first { it.clazz == TestClasses.User::class.java }.executableSize > 0L) should be(true)
+            } finally {
+                dataClassValidator.close()
+            }
+        }
+
+        test("DataClassValidator#withDescriptorCache rejects an invalid policy") {
+            assertThrows<IllegalArgumentException> {
+                DataClassValidator.builder().withDescriptorCache(maximumSize = -1)
+            }
+        }
+
         test("DataClassValidator#validate is valid") {
             val testUser = TestClasses.User(id = "9999", name = "April", gender = "F")
             validator.validate(testUser).isEmpty() should be(true)
@@ -1611,6 +2266,20 @@ class ValidatorTest : AssertViolationTest() {
     }
 
     @Suppress("UNCHECKED_CAST", "PLATFORM_CLASS_MAPPED_TO_KOTLIN")
+    /** @return the root of a chain of the given number of nodes, the last of which has the given name. */
+    private fun newDeepGraph(depth: Int, leafName: String = ""): TestClasses.CyclicNode {
+        val root = TestClasses.CyclicNode(name = "root")
+        var node = root
+        var index = 1
+        while (index < depth) {
+            val next = TestClasses.CyclicNode(name = if (index == depth - 1) leafName else "node")
+            node.next = next
+            node = next
+            index += 1
+        }
+        return root
+    }
+
     private fun newJavaSet(numElements: Int): java.util.Set<Int> {
         val result = HashSet<Int>()
         for (i in 1..numElements) {
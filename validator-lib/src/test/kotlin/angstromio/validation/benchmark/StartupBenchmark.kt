@@ -0,0 +1,47 @@
+package angstromio.validation.benchmark
+
+import angstromio.validation.DataClassValidator
+import jakarta.validation.constraints.Min
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.Size
+import java.lang.management.ManagementFactory
+
+/**
+ * Measures the time to the first validation of a newly built [DataClassValidator], which is dominated by the
+ * bootstrap of the validator and thus only meaningful once per JVM. Run in a fresh JVM per bootstrap mode with
+ * the `startupBenchmark` Gradle task, which also measures the default mode with the AppCDS archive generated by the
+ * `cdsArchive` Gradle task.
+ *
+ * Usage: `StartupBenchmarkKt [default|fast]`
+ */
+fun main(args: Array<String>) {
+    val mode = args.firstOrNull() ?: "default"
+    val start = System.nanoTime()
+
+    val validator = DataClassValidator.builder()
+        .withFastBootstrap(mode == "fast")
+        .validator()
+    val built = System.nanoTime()
+
+    val violations = validator.validate(StartupExample(id = "", name = "a", count = 0))
+    val validated = System.nanoTime()
+
+    check(violations.size == 3) { "Expected 3 violations, found ${violations.size}." }
+    println(
+        "mode=%s cds=%s bootstrap=%.2fms firstValidation=%.2fms total=%.2fms jvmUptime=%dms".format(
+            mode,
+            ManagementFactory.getRuntimeMXBean().inputArguments.any { it.startsWith("-XX:SharedArchiveFile") },
+            (built - start) / 1_000_000.0,
+            (validated - built) / 1_000_000.0,
+            (validated - start) / 1_000_000.0,
+            ManagementFactory.getRuntimeMXBean().uptime
+        )
+    )
+    validator.close()
+}
+
+data class StartupExample(
+    @NotEmpty val id: String,
+    @Size(min = 2) val name: String,
+    @Min(1) val count: Int
+)
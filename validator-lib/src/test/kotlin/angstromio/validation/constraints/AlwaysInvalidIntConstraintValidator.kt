@@ -0,0 +1,9 @@
+package angstromio.validation.constraints
+
+import jakarta.validation.ConstraintValidator
+import jakarta.validation.ConstraintValidatorContext
+import jakarta.validation.constraints.Min
+
+class AlwaysInvalidIntConstraintValidator : ConstraintValidator<Min, Int> {
+    override fun isValid(value: Int?, context: ConstraintValidatorContext?): Boolean = false
+}
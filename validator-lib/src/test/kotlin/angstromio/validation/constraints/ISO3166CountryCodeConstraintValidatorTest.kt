@@ -3,6 +3,7 @@ package angstromio.validation.constraints
 import angstromio.validation.DataClassValidator
 import angstromio.validation.TestClasses.CountryCodeArrayExample
 import angstromio.validation.TestClasses.CountryCodeExample
+import angstromio.validation.TestClasses.CountryCodeFormatsExample
 import angstromio.validation.TestClasses.CountryCodeInvalidTypeExample
 import angstromio.validation.TestClasses.CountryCodeListExample
 import io.kotest.matchers.be
@@ -37,6 +38,30 @@ class ISO3166CountryCodeConstraintValidatorTest : ConstraintValidatorTest() {
             }
         }
 
+        test("pass validation for lowercase country code") {
+            countryCodes.forEach { value ->
+                validate<CountryCodeExample>(value.lowercase()).isEmpty() should be(true)
+                validate<CountryCodeExample>(StringBuilder(value.lowercase())).isEmpty() should be(true)
+            }
+        }
+
+        test("validate alpha-3 and numeric country codes") {
+            validate<CountryCodeFormatsExample>("USA").isEmpty() should be(true)
+            validate<CountryCodeFormatsExample>("deu").isEmpty() should be(true)
+            validate<CountryCodeFormatsExample>("840").isEmpty() should be(true)
+            validate<CountryCodeFormatsExample>(4).isEmpty() should be(true)
+            validate<CountryCodeFormatsExample>(listOf("GBR", "826")).isEmpty() should be(true)
+
+            // alpha-2 is not enabled
+            validate<CountryCodeFormatsExample>("US").size shouldBeEqual 1
+            validate<CountryCodeFormatsExample>("XXX").size shouldBeEqual 1
+            validate<CountryCodeFormatsExample>("999").size shouldBeEqual 1
+            validate<CountryCodeFormatsExample>(1000).size shouldBeEqual 1
+            val violations = validate<CountryCodeFormatsExample>(arrayOf("USA", "84"))
+            violations.size shouldBeEqual 1
+            violations.first().message should be("USA, 84 not a valid country code")
+        }
+
         test("not fail for null value") {
             validate<CountryCodeExample>(null).isEmpty() should be(true)
         }
@@ -1,6 +1,11 @@
 package angstromio.validation.constraints
 
 import angstromio.validation.DataClassValidator
+import angstromio.validation.TestClasses.OneOfDisplayEnum
+import angstromio.validation.TestClasses.OneOfDisplayEnumExample
+import angstromio.validation.TestClasses.OneOfEnum
+import angstromio.validation.TestClasses.OneOfEnumExample
+import angstromio.validation.TestClasses.OneOfEnumSetExample
 import angstromio.validation.TestClasses.OneOfExample
 import angstromio.validation.TestClasses.OneOfInvalidTypeExample
 import angstromio.validation.TestClasses.OneOfListExample
@@ -93,6 +98,28 @@ class OneOfConstraintValidatorTest : ConstraintValidatorTest() {
             }
         }
 
+        test("pass validation for char sequence") {
+            validate<OneOfExample>(StringBuilder("B")).isEmpty() should be(true)
+            validate<OneOfExample>(StringBuilder("b")).size shouldBeEqual 1
+        }
+
+        test("validate enum values by name") {
+            validate<OneOfEnumExample>(OneOfEnum.a).isEmpty() should be(true)
+            validate<OneOfEnumExample>(OneOfEnum.B).isEmpty() should be(true)
+
+            val violations = validate<OneOfEnumExample>(OneOfEnum.d)
+            violations.size shouldBeEqual 1
+            violations.first().message should be("d not one of [a, B, c]")
+
+            validate<OneOfEnumSetExample>(setOf(OneOfEnum.a, OneOfEnum.B)).isEmpty() should be(true)
+            validate<OneOfEnumSetExample>(setOf(OneOfEnum.a, OneOfEnum.d)).size shouldBeEqual 1
+        }
+
+        test("validate enum values with overridden toString") {
+            validate<OneOfDisplayEnumExample>(OneOfDisplayEnum.A).isEmpty() should be(true)
+            validate<OneOfDisplayEnumExample>(OneOfDisplayEnum.D).size shouldBeEqual 1
+        }
+
         test("fail for map type") {
             assertThrows<ValidationException> {
                 validate<OneOfListExample>(emptyMap<String, String>())
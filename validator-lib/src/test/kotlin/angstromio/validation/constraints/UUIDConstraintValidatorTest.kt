@@ -2,7 +2,10 @@ package angstromio.validation.constraints
 
 import angstromio.validation.DataClassValidator
 import angstromio.validation.TestClasses.UUIDExample
+import angstromio.validation.TestClasses.UUIDVersionExample
+import io.kotest.matchers.be
 import io.kotest.matchers.equals.shouldBeEqual
+import io.kotest.matchers.should
 import io.kotest.property.Arb
 import io.kotest.property.arbitrary.Codepoint
 import io.kotest.property.arbitrary.alphanumeric
@@ -35,6 +38,28 @@ class UUIDConstraintValidatorTest : ConstraintValidatorTest() {
                 violation.message == "must be a valid UUID" && violation.propertyPath.toString() == testFieldName
             }
         }
+
+        test("fail validation for non-canonical uuid") {
+            // accepted by java.util.UUID#fromString
+            validate<UUIDExample>("1-1-1-1-1").size shouldBeEqual 1
+
+            validate<UUIDExample>("123e4567e89b-12d3-a456-426614174000-").size shouldBeEqual 1
+            validate<UUIDExample>("123e4567-e89b-12d3-a456-42661417400g").size shouldBeEqual 1
+            validate<UUIDExample>("123E4567-E89B-12D3-A456-426614174000").isEmpty() should be(true)
+        }
+
+        test("validate uuid version, variant and case") {
+            validate<UUIDVersionExample>("123e4567-e89b-42d3-a456-426614174000").isEmpty() should be(true)
+            validate<UUIDVersionExample>("017f22e2-79b0-7cc3-98c4-dc0c0c07398f").isEmpty() should be(true)
+            // version 1
+            validate<UUIDVersionExample>("123e4567-e89b-12d3-a456-426614174000").size shouldBeEqual 1
+            // NCS variant
+            validate<UUIDVersionExample>("123e4567-e89b-42d3-7456-426614174000").size shouldBeEqual 1
+            // Microsoft variant
+            validate<UUIDVersionExample>("123e4567-e89b-42d3-c456-426614174000").size shouldBeEqual 1
+            // uppercase
+            validate<UUIDVersionExample>("123E4567-E89B-42D3-A456-426614174000").size shouldBeEqual 1
+        }
     }
 
     private inline fun <reified T : Any> validate(value: Any?): Set<ConstraintViolation<T>> =
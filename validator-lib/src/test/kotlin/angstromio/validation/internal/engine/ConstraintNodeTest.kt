@@ -0,0 +1,37 @@
+package angstromio.validation.internal.engine
+
+import angstromio.validation.constraints.ConstraintCost
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.be
+import io.kotest.matchers.should
+
+class ConstraintNodeTest : FunSpec({
+
+    fun newNode(declaredCost: Int): ConstraintNode =
+        ConstraintNode(
+            kind = ConstraintNode.Kind.CLASS_CONSTRAINT,
+            property = null,
+            index = 0,
+            postConstructValidation = null,
+            constraintDescriptor = null,
+            groupsMask = 1L,
+            declaredCost = declaredCost
+        )
+
+    test("ConstraintNode#score on one scale") {
+        val cheap = newNode(ConstraintCost.CHEAP)
+        val expensive = newNode(ConstraintCost.EXPENSIVE)
+        var index = 0
+        while (index < 32) {
+            cheap.record(elapsedNanos = 100_000L, failed = false)
+            index += 1
+        }
+        cheap.isObserved should be(true)
+        expensive.isObserved should be(false)
+
+        // declared costs until every node is observed
+        (cheap.score(isObserved = false) < expensive.score(isObserved = false)) should be(true)
+        // observed nanoseconds, a node without evaluations keeps its declared cost
+        (cheap.score(isObserved = true) > expensive.score(isObserved = true)) should be(true)
+    }
+})
@@ -0,0 +1,38 @@
+package angstromio.validation.internal.engine
+
+import angstromio.validation.TestClasses
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.be
+import io.kotest.matchers.should
+
+class FootprintEstimatorTest : FunSpec({
+
+    test("FootprintEstimator#sizeOf") {
+        val estimator = FootprintEstimator(instrumentation = null, boundaries = emptyList())
+        // header, 3 references, aligned, and each Latin-1 string with its value array
+        val user = TestClasses.User(id = "1", name = "April", gender = "F")
+        estimator.sizeOf(listOf(user)) should be(24L + 3 * (24L + 24L))
+        // counted once
+        estimator.sizeOf(listOf(user)) should be(0L)
+        estimator.sizeOf(listOf(longArrayOf(1L, 2L))) should be(32L)
+    }
+
+    test("FootprintEstimator#sizeOf stops at boundaries and classes") {
+        val customer = TestClasses.Customer(first = "Jane", last = "Smith")
+        val estimator = FootprintEstimator(instrumentation = null, boundaries = listOf(customer))
+        estimator.sizeOf(listOf(customer, TestClasses.Customer::class.java)) should be(0L)
+
+        val other = TestClasses.Customer(first = "John", last = "Smith")
+        estimator.sizeOf(listOf(other), excluded = listOf(other)) should be(0L)
+        (estimator.sizeOf(listOf(other)) > 0L) should be(true)
+    }
+
+    test("FootprintEstimator#sizeOf walks JDK collections") {
+        val estimator = FootprintEstimator(instrumentation = null, boundaries = emptyList())
+        val elements = listOf(TestClasses.Customer(first = "Jane", last = "Smith"))
+        val withElements = estimator.sizeOf(listOf(HashMap(mapOf("key" to elements))))
+        val empty = FootprintEstimator(instrumentation = null, boundaries = emptyList())
+            .sizeOf(listOf(HashMap<String, Any>()))
+        (withElements > empty) should be(true)
+    }
+})
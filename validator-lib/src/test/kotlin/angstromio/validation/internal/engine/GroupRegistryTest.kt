@@ -0,0 +1,54 @@
+package angstromio.validation.internal.engine
+
+import angstromio.validation.TestClasses
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.be
+import io.kotest.matchers.should
+import io.kotest.matchers.shouldNot
+import jakarta.validation.groups.Default
+
+class GroupRegistryTest : FunSpec({
+
+    test("GroupRegistry#maskOf") {
+        val registry = GroupRegistry()
+        registry.maskOf(emptySet()) should be(1L)
+        registry.maskOf(setOf(Default::class.java)) should be(1L)
+        registry.bitOf(TestClasses.PersonCheck::class.java) should be(2L)
+        registry.bitOf(TestClasses.OtherCheck::class.java) should be(4L)
+        registry.bitOf(TestClasses.PersonCheck::class.java) should be(2L)
+        registry.maskOf(setOf(TestClasses.PersonCheck::class.java, Default::class.java)) should be(3L)
+    }
+
+    test("Groups#isEnabled") {
+        val registry = GroupRegistry()
+        val personCheck = setOf<Class<*>>(TestClasses.PersonCheck::class.java)
+        val personCheckMask = registry.maskOf(personCheck)
+        val defaultMask = registry.maskOf(emptySet())
+
+        registry.resolve(emptyList()).isEnabled(emptySet(), defaultMask) should be(true)
+        registry.resolve(emptyList()).isEnabled(personCheck, personCheckMask) should be(false)
+        registry.resolve(listOf(Default::class.java)).isEnabled(emptySet(), defaultMask) should be(true)
+        registry.resolve(listOf(TestClasses.PersonCheck::class.java)).isEnabled(emptySet(), defaultMask) should be(false)
+        registry
+            .resolve(listOf(TestClasses.OtherCheck::class.java, TestClasses.PersonCheck::class.java))
+            .isEnabled(personCheck, personCheckMask) should be(true)
+    }
+
+    test("Groups#isEnabled with overflowed groups") {
+        val registry = GroupRegistry()
+        // distinct classes to exhaust the indexed bits
+        val groups = (1..70).map { dimensions -> Class.forName("[".repeat(dimensions) + "Ljava.lang.Object;") }
+        groups.forEach { registry.bitOf(it) }
+        registry.bitOf(groups[61]) shouldNot be(GroupRegistry.OVERFLOW)
+        registry.bitOf(groups[62]) should be(GroupRegistry.OVERFLOW)
+        registry.bitOf(groups[69]) should be(GroupRegistry.OVERFLOW)
+
+        val constraintGroups = setOf(groups[65])
+        val constraintGroupsMask = registry.maskOf(constraintGroups)
+        registry.resolve(listOf(groups[65])).isEnabled(constraintGroups, constraintGroupsMask) should be(true)
+        // shares the overflow bit, but is not a group of the constraint
+        registry.resolve(listOf(groups[66])).isEnabled(constraintGroups, constraintGroupsMask) should be(false)
+        registry.resolve(listOf(groups[0], groups[66])).isEnabled(constraintGroups, constraintGroupsMask) should be(false)
+        registry.resolve(listOf(groups[0])).isEnabled(setOf(groups[0]), registry.maskOf(setOf(groups[0]))) should be(true)
+    }
+})
@@ -0,0 +1,76 @@
+package angstromio.validation.internal.jfr
+
+import angstromio.validation.DataClassValidator
+import angstromio.validation.TestClasses
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.be
+import io.kotest.matchers.should
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedClass
+import jdk.jfr.consumer.RecordingFile
+import java.nio.file.Files
+import java.time.Duration
+
+class ValidationEventsTest : FunSpec({
+
+    val eventNames = listOf(
+        "angstromio.validation.Validate",
+        "angstromio.validation.DescriptorBuild",
+        "angstromio.validation.SlowConstraint",
+        "angstromio.validation.PostConstructValidation"
+    )
+
+    test("ValidationEvents#recorded when enabled") {
+        val file = Files.createTempFile("validation", ".jfr")
+        val validator = DataClassValidator()
+        try {
+            Recording().use { recording ->
+                eventNames.forEach { name -> recording.enable(name).withThreshold(Duration.ZERO) }
+                recording.start()
+                validator.validate(TestClasses.User(id = "", name = "April", gender = "F")).size should be(1)
+                validator.getConstraintsForClass(TestClasses.User::class.java).constrainedConstructors
+                recording.stop()
+                recording.dump(file)
+            }
+
+            val events = RecordingFile.readAllEvents(file)
+            val validate = events.single { it.eventType.name == "angstromio.validation.Validate" }
+            validate.getValue<RecordedClass>("rootClass").name should be(TestClasses.User::class.java.name)
+            validate.getInt("violations") should be(1)
+            validate.getString("result") should be("COMPLETE")
+
+            val descriptorBuilds = events.filter { it.eventType.name == "angstromio.validation.DescriptorBuild" }
+            descriptorBuilds.map { it.getBoolean("executables") }.toSet() should be(setOf(false, true))
+
+            events.any { event ->
+                event.eventType.name == "angstromio.validation.SlowConstraint" &&
+                        event.getString("path") == "id" && !event.getBoolean("valid")
+            } should be(true)
+
+            val postConstructValidation =
+                events.single { it.eventType.name == "angstromio.validation.PostConstructValidation" }
+            postConstructValidation.getString("method") should be("nameCheck")
+        } finally {
+            validator.close()
+            Files.deleteIfExists(file)
+        }
+    }
+
+    test("ValidationEvents#not recorded when disabled") {
+        val file = Files.createTempFile("validation", ".jfr")
+        val validator = DataClassValidator()
+        try {
+            Recording().use { recording ->
+                eventNames.forEach { name -> recording.disable(name) }
+                recording.start()
+                validator.validate(TestClasses.User(id = "", name = "April", gender = "F")).size should be(1)
+                recording.stop()
+                recording.dump(file)
+            }
+            RecordingFile.readAllEvents(file).none { eventNames.contains(it.eventType.name) } should be(true)
+        } finally {
+            validator.close()
+            Files.deleteIfExists(file)
+        }
+    }
+})
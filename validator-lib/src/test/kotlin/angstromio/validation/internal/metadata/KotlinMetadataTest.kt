@@ -0,0 +1,69 @@
+package angstromio.validation.internal.metadata
+
+import angstromio.validation.TestClasses
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.be
+import io.kotest.matchers.nulls.beNull
+import io.kotest.matchers.should
+import io.kotest.matchers.shouldBe
+import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.javaConstructor
+
+class KotlinMetadataTest : FunSpec({
+
+    test("KotlinMetadata#primaryConstructor") {
+        KotlinMetadata.primaryConstructor(TestClasses.WithSecondaryConstructor::class.java) should
+                be(TestClasses.WithSecondaryConstructor::class.primaryConstructor!!.javaConstructor)
+        KotlinMetadata.primaryConstructor(TestClasses.Address::class.java) should
+                be(TestClasses.Address::class.primaryConstructor!!.javaConstructor)
+        // no Kotlin metadata
+        KotlinMetadata.read(StringBuilder::class.java) should beNull()
+        KotlinMetadata.primaryConstructor(StringBuilder::class.java)?.isSynthetic shouldBe false
+    }
+
+    test("KotlinMetadata#isDataClass") {
+        KotlinMetadata.isDataClass(TestClasses.Address::class.java) shouldBe true
+        KotlinMetadata.isDataClass(TestClasses.SimpleClass::class.java) shouldBe true
+        // an object, a multi-file class facade and a class without Kotlin metadata
+        KotlinMetadata.isDataClass(TestClasses::class.java) shouldBe false
+        KotlinMetadata.isDataClass(Class.forName("angstromio.validation.extensions.PathsKt")) shouldBe false
+        KotlinMetadata.isDataClass(StringBuilder::class.java) shouldBe false
+    }
+
+    test("KotlinMetadata#parameterNames") {
+        val constructors = TestClasses.WithSecondaryConstructor::class.java.declaredConstructors
+        val primary = constructors.first { it.parameterTypes.contentEquals(arrayOf(Int::class.java, Int::class.java)) }
+        val secondary =
+            constructors.first { it.parameterTypes.contentEquals(arrayOf(String::class.java, String::class.java)) }
+        KotlinMetadata.parameterNames(primary) shouldBe listOf("one", "two")
+        KotlinMetadata.parameterNames(secondary) shouldBe listOf("three", "four")
+
+        val copy = TestClasses.WithSecondaryConstructor::class.java.getDeclaredMethod(
+            "copy", Int::class.java, Int::class.java
+        )
+        KotlinMetadata.parameterNames(copy) shouldBe listOf("one", "two")
+    }
+
+    test("KotlinMetadata#propertyAnnotations") {
+        KotlinMetadata.propertyAnnotations(TestClasses.Rental::class.java) shouldBe emptyMap()
+        listOf(
+            TestClasses.RentalMixin::class.java,
+            TestClasses.InheritedRentalMixin::class.java,
+            TestClasses.AbstractRentalMixin::class.java,
+            TestClasses.InheritedAbstractRentalMixin::class.java
+        ).forEach { clazz ->
+            val propertyAnnotations = KotlinMetadata.propertyAnnotations(clazz)
+            propertyAnnotations.keys shouldBe setOf("duration")
+            propertyAnnotations.getValue("duration").map { it.annotationClass } shouldBe listOf(TestClasses.MinTen::class)
+        }
+    }
+
+    test("KotlinMetadata#signature") {
+        KotlinMetadata.signature(
+            TestClasses.WithSecondaryConstructor::class.java.getDeclaredConstructor(String::class.java, String::class.java)
+        ) shouldBe "<init>(Ljava/lang/String;Ljava/lang/String;)V"
+        KotlinMetadata.signature(
+            TestClasses.WithSecondaryConstructor::class.java.getDeclaredMethod("copy", Int::class.java, Int::class.java)
+        ) shouldBe "copy(II)L${TestClasses.WithSecondaryConstructor::class.java.name.replace('.', '/')};"
+    }
+})
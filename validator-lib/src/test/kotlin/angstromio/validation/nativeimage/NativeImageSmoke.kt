@@ -0,0 +1,26 @@
+package angstromio.validation.nativeimage
+
+import angstromio.validation.DataClassValidator
+import jakarta.validation.Valid
+import jakarta.validation.constraints.Min
+import jakarta.validation.constraints.NotEmpty
+
+data class SmokeItem(@NotEmpty val name: String, @Min(1) val quantity: Int)
+
+data class SmokeOrder(@NotEmpty val id: String, @NotEmpty @Valid val items: List<SmokeItem>)
+
+/**
+ * Validates a small cascaded data class, built as a native image with the reachability metadata generated for
+ * [SmokeOrder] by the `nativeImageSmokeTest` Gradle task.
+ */
+fun main() {
+    val validator = DataClassValidator()
+    try {
+        val violations = validator.validate(SmokeOrder(id = "", items = listOf(SmokeItem(name = "a", quantity = 0))))
+        val paths = violations.map { it.propertyPath.toString() }.toSortedSet()
+        check(paths == sortedSetOf("id", "items[0].quantity")) { "Unexpected violations: $violations" }
+        println("native image smoke test passed: ${violations.joinToString { "${it.propertyPath}: ${it.message}" }}")
+    } finally {
+        validator.close()
+    }
+}
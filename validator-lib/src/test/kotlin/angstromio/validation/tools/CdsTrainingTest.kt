@@ -0,0 +1,27 @@
+package angstromio.validation.tools
+
+import angstromio.validation.DataClassValidator
+import angstromio.validation.TestClasses
+import angstromio.validation.benchmark.StartupExample
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+
+class CdsTrainingTest : FunSpec() {
+
+    private val validator: DataClassValidator = DataClassValidator()
+
+    init {
+        afterSpec {
+            validator.close()
+        }
+
+        test("CdsTraining#train validates synthetic instances") {
+            val clazzes = listOf(StartupExample::class.java, TestClasses.Users::class.java)
+            CdsTraining(validator).train(clazzes) shouldBe clazzes
+        }
+
+        test("CdsTraining#train skips classes without a synthetic instance") {
+            CdsTraining(validator).train(listOf(TestClasses.WithCallback::class.java)) shouldBe emptyList()
+        }
+    }
+}
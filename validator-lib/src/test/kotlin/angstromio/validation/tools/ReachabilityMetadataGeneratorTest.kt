@@ -0,0 +1,71 @@
+package angstromio.validation.tools
+
+import angstromio.validation.DataClassValidator
+import angstromio.validation.TestClasses
+import angstromio.validation.constraints.OneOf
+import angstromio.validation.constraints.PostConstructValidation
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldStartWith
+import jakarta.validation.constraints.NotEmpty
+import org.hibernate.validator.internal.constraintvalidators.bv.notempty.NotEmptyValidatorForCharSequence
+import org.hibernate.validator.internal.engine.ValidatorFactoryImpl
+import java.nio.file.Files
+
+class ReachabilityMetadataGeneratorTest : FunSpec() {
+
+    private val validator: DataClassValidator = DataClassValidator()
+
+    init {
+        afterSpec {
+            validator.close()
+        }
+
+        test("ReachabilityMetadataGenerator#generate for cascaded data classes") {
+            val metadata = ReachabilityMetadataGenerator(validator).generate(listOf(TestClasses.Users::class.java))
+
+            val users = metadata.types.getValue(TestClasses.Users::class.java.name)
+            users.allDeclaredConstructors shouldBe true
+            users.allDeclaredMethods shouldBe true
+            users.allDeclaredFields shouldBe true
+            // cascaded
+            val user = metadata.types.getValue(TestClasses.User::class.java.name)
+            user.allDeclaredMethods shouldBe true
+            user.allDeclaredFields shouldBe true
+
+            metadata.types.getValue(NotEmpty::class.java.name).allDeclaredMethods shouldBe true
+            metadata.types.getValue(OneOf::class.java.name).allDeclaredMethods shouldBe true
+            metadata.types.getValue(NotEmptyValidatorForCharSequence::class.java.name).allDeclaredConstructors shouldBe true
+            metadata.types.keys.any { it.contains("OneOf") && it.endsWith("Validator") } shouldBe true
+
+            metadata.types.getValue(PostConstructValidation::class.java.name).allDeclaredMethods shouldBe true
+            metadata.types.getValue(Metadata::class.java.name).allDeclaredMethods shouldBe true
+            metadata.types.getValue(ValidatorFactoryImpl::class.java.name).fields shouldContain "executableHelper"
+        }
+
+        test("ReachabilityMetadataGenerator#writeTo") {
+            val metadata = ReachabilityMetadataGenerator(validator).generate(listOf(TestClasses.Users::class.java))
+            val directory = Files.createTempDirectory("native-image").toFile()
+            try {
+                metadata.writeTo(directory)
+
+                val reachabilityMetadata = directory.resolve("reachability-metadata.json").readText()
+                reachabilityMetadata shouldStartWith "{\n  \"reflection\": ["
+                reachabilityMetadata shouldContain "{\"type\": \"${TestClasses.Users::class.java.name}\", " +
+                    "\"allDeclaredConstructors\": true, \"allDeclaredMethods\": true, \"allDeclaredFields\": true}"
+                reachabilityMetadata shouldContain "\"fields\": [{\"name\": \"executableHelper\"}]"
+                reachabilityMetadata shouldContain "{\"name\": \"ValidationMessages\"}"
+
+                val reflectConfig = directory.resolve("reflect-config.json").readText()
+                reflectConfig shouldStartWith "[\n"
+                reflectConfig shouldContain "{\"name\": \"${TestClasses.User::class.java.name}\", "
+
+                directory.resolve("resource-config.json").readText() shouldContain "kotlin_module"
+            } finally {
+                directory.deleteRecursively()
+            }
+        }
+    }
+}